@@ -1,17 +1,17 @@
 package com.neonpass.application.service;
 
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.User;
 import com.neonpass.domain.model.enums.EventStatus;
 import com.neonpass.domain.model.enums.UserRole;
-import com.neonpass.domain.port.out.*;
+import com.neonpass.domain.port.out.UserRepository;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.AdminDashboardResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,55 +25,38 @@ import java.util.UUID;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final EventRepository eventRepository;
-    private final OrganizationRepository organizationRepository;
-    private final VenueRepository venueRepository;
-    private final OrderRepository orderRepository;
-    private final TicketRepository ticketRepository;
+    private final PlatformMetricsService platformMetricsService;
 
     public AdminDashboardResponse getDashboard() {
         log.info("Generating admin dashboard");
 
-        // Contadores básicos
-        List<User> allUsers = userRepository.findAll();
-        long totalUsers = allUsers.size();
-        long adminCount = allUsers.stream().filter(u -> UserRole.ADMIN.equals(u.getRole())).count();
-        long staffCount = allUsers.stream().filter(u -> UserRole.STAFF.equals(u.getRole())).count();
-        long userCount = allUsers.stream().filter(u -> UserRole.USER.equals(u.getRole())).count();
-
-        var allEvents = eventRepository.findAll();
-        long publishedEvents = allEvents.stream().filter(e -> EventStatus.PUBLISHED.equals(e.getStatus())).count();
-        long draftEvents = allEvents.stream().filter(e -> EventStatus.DRAFT.equals(e.getStatus())).count();
-
-        var allOrders = orderRepository.findAll();
-        BigDecimal totalRevenue = allOrders.stream()
-                .map(o -> o.getTotalAmount() != null ? o.getTotalAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal platformFees = allOrders.stream()
-                .map(o -> o.getPlatformFee() != null ? o.getPlatformFee() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        var allTickets = ticketRepository.findAll();
+        PlatformMetricsService.PlatformTotals totals = platformMetricsService.getTotals();
 
         return AdminDashboardResponse.builder()
-                .totalUsers(totalUsers)
-                .totalEvents((long) allEvents.size())
-                .totalOrganizations((long) organizationRepository.findAll().size())
-                .totalVenues((long) venueRepository.findAll().size())
-                .totalOrders((long) allOrders.size())
-                .totalTickets((long) allTickets.size())
-                .publishedEvents(publishedEvents)
-                .draftEvents(draftEvents)
-                .totalRevenue(totalRevenue)
-                .platformFees(platformFees)
-                .adminCount(adminCount)
-                .staffCount(staffCount)
-                .userCount(userCount)
+                .totalUsers(totals.users())
+                .totalEvents(totals.events())
+                .totalOrganizations(totals.organizations())
+                .totalVenues(totals.venues())
+                .totalOrders(totals.orders())
+                .totalTickets(totals.tickets())
+                .publishedEvents(totals.eventsByStatus().getOrDefault(EventStatus.PUBLISHED, 0L))
+                .draftEvents(totals.eventsByStatus().getOrDefault(EventStatus.DRAFT, 0L))
+                .totalRevenue(totals.revenue())
+                .platformFees(totals.platformFees())
+                .adminCount(totals.usersByRole().getOrDefault(UserRole.ADMIN, 0L))
+                .staffCount(totals.usersByRole().getOrDefault(UserRole.STAFF, 0L))
+                .userCount(totals.usersByRole().getOrDefault(UserRole.USER, 0L))
                 .build();
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    /**
+     * Página de usuarios, del más reciente al más antiguo.
+     *
+     * @param after posición tras la que empieza la página, o null para usar
+     *              {@code page}
+     */
+    public PageResult<User> getUsers(PageCursor after, int page, int size) {
+        return userRepository.findPage(after, page, size);
     }
 
     public Optional<User> getUserById(UUID userId) {
@@ -86,6 +69,7 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("User not found: " + userId));
 
         log.info("Changing role of user {} from {} to {}", userId, user.getRole(), newRole);
+        platformMetricsService.recordRoleChange(user.getRole(), newRole);
         user.setRole(newRole);
         return userRepository.save(user);
     }
@@ -97,6 +81,7 @@ public class AdminService {
 
         log.info("Deactivating user: {}", userId);
         user.setDeleted(true);
+        platformMetricsService.recordUserRemoved(user.getRole());
         userRepository.save(user);
     }
 }
@@ -0,0 +1,28 @@
+package com.neonpass.application.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aplica cambios a estado en memoria solo cuando la transacción en curso
+ * confirma, para que un rollback no deje cachés e índices por delante de la
+ * base de datos. Fuera de una transacción el cambio se aplica de inmediato.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
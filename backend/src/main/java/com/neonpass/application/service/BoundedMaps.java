@@ -0,0 +1,49 @@
+package com.neonpass.application.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Límite de tamaño para los mapas concurrentes usados como caché local.
+ *
+ * <p>
+ * Al llenarse se descartan primero las entradas vencidas y, si siguen sin
+ * caber, una parte en orden de iteración hasta quedar al 90% del máximo, para
+ * no repetir la limpieza en cada inserción.
+ * </p>
+ */
+public final class BoundedMaps {
+
+    private BoundedMaps() {
+    }
+
+    /**
+     * Libera espacio si el mapa alcanzó {@code maxEntries}, en orden de
+     * iteración. Se llama antes de insertar.
+     */
+    public static <K, V> void makeRoom(Map<K, V> map, int maxEntries) {
+        makeRoom(map, maxEntries, value -> false);
+    }
+
+    /**
+     * Libera espacio si el mapa alcanzó {@code maxEntries}. Se llama antes de
+     * insertar.
+     *
+     * @param expired entradas que pueden descartarse sin importar el tamaño
+     */
+    public static <K, V> void makeRoom(Map<K, V> map, int maxEntries, Predicate<? super V> expired) {
+        if (map.size() < maxEntries) {
+            return;
+        }
+
+        map.values().removeIf(expired);
+
+        int excess = map.size() - maxEntries * 9 / 10;
+        Iterator<K> it = map.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.neonpass.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caché en memoria del catálogo público de eventos (detalle y páginas del
+ * listado).
+ *
+ * <p>
+ * Cada entrada guarda la respuesta ya construida junto con su ETag, un
+ * SHA-256 de su JSON, de modo que una petición con {@code If-None-Match}
+ * se responde con 304 sin consultar la base de datos ni serializar. Las
+ * entradas vencen tras {@code event-catalog-cache.ttl-seconds}, lo que
+ * acota el tiempo en que un nodo sirve cambios hechos en otro, y el total
+ * se limita a {@code event-catalog-cache.max-entries}.
+ * </p>
+ *
+ * <p>
+ * Las escrituras sobre un evento llaman a {@link #invalidateEvent(UUID)} al
+ * confirmar la transacción, que descarta su detalle y todas las páginas del
+ * listado. Una carga que empezó antes de la invalidación no se guarda.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventCatalogCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${event-catalog-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${event-catalog-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * Respuesta cacheada y su ETag (sin comillas).
+     */
+    public record Cached<T>(T value, String etag, long loadedAt) {
+    }
+
+    private record EventKey(UUID eventId) {
+    }
+
+    private record ListingKey(String cursor, int page, int size) {
+    }
+
+    private final ConcurrentHashMap<Object, Cached<?>> entries = new ConcurrentHashMap<>();
+
+    /** Se incrementa en cada invalidación para descartar cargas en curso */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Obtiene el detalle de un evento, construyéndolo con {@code loader} si no
+     * está en caché o venció.
+     */
+    public <T> Cached<T> getEvent(UUID eventId, Supplier<T> loader) {
+        return get(new EventKey(eventId), loader);
+    }
+
+    /**
+     * Obtiene una página del listado público.
+     */
+    public <T> Cached<T> getListing(String cursor, int page, int size, Supplier<T> loader) {
+        return get(new ListingKey(cursor, page, size), loader);
+    }
+
+    /**
+     * Descarta el detalle del evento y todas las páginas del listado al
+     * confirmar la transacción actual (o de inmediato si no hay una).
+     */
+    public void invalidateEvent(UUID eventId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            entries.remove(new EventKey(eventId));
+            entries.keySet().removeIf(key -> key instanceof ListingKey);
+            log.debug("Catálogo de eventos invalidado por evento {}", eventId);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Cached<T> get(Object key, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        Cached<T> cached = (Cached<T>) entries.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlSeconds * 1000) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        T value = loader.get();
+        Cached<T> loaded = new Cached<>(value, etagOf(value), now);
+
+        long ttlMillis = ttlSeconds * 1000;
+        BoundedMaps.makeRoom(entries, maxEntries, entry -> now - entry.loadedAt() >= ttlMillis);
+        entries.put(key, loaded);
+
+        // Si hubo una invalidación durante la carga, el valor puede estar viejo
+        if (generation.get() != loadGeneration) {
+            entries.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private String etagOf(Object value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta del catálogo", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -2,14 +2,12 @@ package com.neonpass.application.service;
 
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neonpass.domain.exception.EventNotFoundException;
 import com.neonpass.domain.exception.ImageDeletionException;
 import com.neonpass.domain.exception.ImageUploadException;
 import com.neonpass.domain.exception.InvalidImageException;
 import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.EventMetadata;
 import com.neonpass.domain.port.out.EventRepository;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.ImageUploadResponse;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +29,9 @@ public class EventImageService {
 
     private final Cloudinary cloudinary;
     private final EventRepository eventRepository;
-    private final ObjectMapper objectMapper;
+    private final EventMetadataService eventMetadataService;
+    private final EventCatalogCache eventCatalogCache;
+    private final EventSearchIndex eventSearchIndex;
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final List<String> ALLOWED_TYPES = List.of(
@@ -65,6 +65,8 @@ public class EventImageService {
             // Actualizar metadata del evento
             updateEventImageMetadata(event, "banner", bannerData);
             eventRepository.save(event);
+            eventCatalogCache.invalidateEvent(eventId);
+            eventSearchIndex.indexEvent(event);
 
             log.info("Banner uploaded successfully for event {}: {}", eventId, uploadResult.get("secure_url"));
 
@@ -104,6 +106,8 @@ public class EventImageService {
 
             updateEventImageMetadata(event, "thumbnail", thumbnailData);
             eventRepository.save(event);
+            eventCatalogCache.invalidateEvent(eventId);
+            eventSearchIndex.indexEvent(event);
 
             return ImageUploadResponse.builder()
                     .url((String) uploadResult.get("secure_url"))
@@ -140,6 +144,8 @@ public class EventImageService {
 
             addToGallery(event, imageData);
             eventRepository.save(event);
+            eventCatalogCache.invalidateEvent(eventId);
+            eventSearchIndex.indexEvent(event);
 
             return ImageUploadResponse.builder()
                     .url((String) uploadResult.get("secure_url"))
@@ -165,6 +171,8 @@ public class EventImageService {
                 cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
                 removeFromMetadata(event, imageType);
                 eventRepository.save(event);
+                eventCatalogCache.invalidateEvent(eventId);
+                eventSearchIndex.indexEvent(event);
                 log.info("Deleted image {} for event {}", imageType, eventId);
             } catch (IOException e) {
                 log.error("Error deleting image from Cloudinary", e);
@@ -213,31 +221,9 @@ public class EventImageService {
         return baseUrl.replace("/upload/", "/upload/" + transformation + "/");
     }
 
-    private Map<String, Object> parseMetadata(String metadataJson) {
-        if (metadataJson == null || metadataJson.isBlank()) {
-            return new HashMap<>();
-        }
-        try {
-            return objectMapper.readValue(metadataJson, new TypeReference<>() {
-            });
-        } catch (JsonProcessingException e) {
-            log.warn("Error parsing metadata JSON", e);
-            return new HashMap<>();
-        }
-    }
-
-    private String serializeMetadata(Map<String, Object> metadata) {
-        try {
-            return objectMapper.writeValueAsString(metadata);
-        } catch (JsonProcessingException e) {
-            log.error("Error serializing metadata", e);
-            return "{}";
-        }
-    }
-
     @SuppressWarnings("unchecked")
     private void updateEventImageMetadata(Event event, String imageType, Map<String, Object> imageData) {
-        Map<String, Object> metadata = parseMetadata(event.getMetadata());
+        Map<String, Object> metadata = eventMetadataService.toMutableMap(event.getMetadata());
 
         metadata.putIfAbsent("media", new HashMap<String, Object>());
         Map<String, Object> media = (Map<String, Object>) metadata.get("media");
@@ -247,12 +233,12 @@ public class EventImageService {
 
         images.put(imageType, imageData);
 
-        event.setMetadata(serializeMetadata(metadata));
+        event.setMetadata(eventMetadataService.serialize(metadata));
     }
 
     @SuppressWarnings("unchecked")
     private void addToGallery(Event event, Map<String, Object> imageData) {
-        Map<String, Object> metadata = parseMetadata(event.getMetadata());
+        Map<String, Object> metadata = eventMetadataService.toMutableMap(event.getMetadata());
 
         metadata.putIfAbsent("media", new HashMap<String, Object>());
         Map<String, Object> media = (Map<String, Object>) metadata.get("media");
@@ -267,31 +253,23 @@ public class EventImageService {
         imageData.put("displayOrder", gallery.size());
         gallery.add(imageData);
 
-        event.setMetadata(serializeMetadata(metadata));
+        event.setMetadata(eventMetadataService.serialize(metadata));
     }
 
-    @SuppressWarnings("unchecked")
     private String getPublicIdFromMetadata(Event event, String imageType) {
-        Map<String, Object> metadata = parseMetadata(event.getMetadata());
-
-        Map<String, Object> media = (Map<String, Object>) metadata.get("media");
-        if (media == null)
-            return null;
-
-        Map<String, Object> images = (Map<String, Object>) media.get("images");
-        if (images == null)
-            return null;
-
-        if ("banner".equals(imageType) || "thumbnail".equals(imageType)) {
-            Map<String, Object> image = (Map<String, Object>) images.get(imageType);
-            return image != null ? (String) image.get("publicId") : null;
-        }
-        return null;
+        EventMetadata metadata = eventMetadataService.of(event);
+
+        EventMetadata.EventImage image = switch (imageType) {
+            case "banner" -> metadata.getBanner();
+            case "thumbnail" -> metadata.getThumbnail();
+            default -> null;
+        };
+        return image != null ? image.getPublicId() : null;
     }
 
     @SuppressWarnings("unchecked")
     private void removeFromMetadata(Event event, String imageType) {
-        Map<String, Object> metadata = parseMetadata(event.getMetadata());
+        Map<String, Object> metadata = eventMetadataService.toMutableMap(event.getMetadata());
 
         Map<String, Object> media = (Map<String, Object>) metadata.get("media");
         if (media == null)
@@ -303,6 +281,6 @@ public class EventImageService {
 
         images.remove(imageType);
 
-        event.setMetadata(serializeMetadata(metadata));
+        event.setMetadata(eventMetadataService.serialize(metadata));
     }
 }
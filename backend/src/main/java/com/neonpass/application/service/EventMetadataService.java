@@ -0,0 +1,165 @@
+package com.neonpass.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.EventMetadata;
+import com.neonpass.domain.model.EventMetadata.EventImage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lectura y escritura de la metadata JSON de eventos.
+ *
+ * <p>
+ * {@link #of(Event)} deserializa el JSON una vez y guarda el resultado por
+ * evento junto con el texto del que salió: mientras la metadata no cambie,
+ * las lecturas siguientes devuelven la misma instancia sin volver a parsear.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventMetadataService {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ObjectMapper objectMapper;
+
+    private record Parsed(String json, EventMetadata metadata) {
+    }
+
+    private final ConcurrentHashMap<UUID, Parsed> parsed = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene la vista tipada de la metadata del evento.
+     */
+    public EventMetadata of(Event event) {
+        String json = event.getMetadata();
+        if (json == null || json.isBlank()) {
+            return EventMetadata.EMPTY;
+        }
+        if (event.getId() == null) {
+            return parse(json);
+        }
+
+        Parsed cached = parsed.get(event.getId());
+        if (cached != null && cached.json().equals(json)) {
+            return cached.metadata();
+        }
+
+        EventMetadata metadata = parse(json);
+        BoundedMaps.makeRoom(parsed, MAX_ENTRIES);
+        parsed.put(event.getId(), new Parsed(json, metadata));
+        return metadata;
+    }
+
+    /**
+     * Copia modificable del documento para editarlo y guardarlo con
+     * {@link #serialize(Map)}.
+     */
+    public Map<String, Object> toMutableMap(String json) {
+        if (json == null || json.isBlank()) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("Error parsing metadata JSON", e);
+            return new HashMap<>();
+        }
+    }
+
+    public String serialize(Map<String, Object> metadata) {
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing metadata", e);
+            return "{}";
+        }
+    }
+
+    private EventMetadata parse(String json) {
+        Map<String, Object> values;
+        try {
+            values = freeze(objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {
+            }));
+        } catch (JsonProcessingException e) {
+            log.warn("Error parsing event metadata", e);
+            return EventMetadata.EMPTY;
+        }
+
+        EventMetadata.EventMetadataBuilder builder = EventMetadata.builder().values(values);
+
+        Map<?, ?> images = asMap(asMap(values.get("media")).get("images"));
+        builder.banner(toImage(images.get("banner")));
+        builder.thumbnail(toImage(images.get("thumbnail")));
+
+        List<EventImage> gallery = new ArrayList<>();
+        if (images.get("gallery") instanceof List<?> items) {
+            for (Object item : items) {
+                EventImage image = toImage(item);
+                if (image != null) {
+                    gallery.add(image);
+                }
+            }
+        }
+        builder.gallery(List.copyOf(gallery));
+
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventImage toImage(Object value) {
+        if (!(value instanceof Map<?, ?> image)) {
+            return null;
+        }
+        return EventImage.builder()
+                .url(asString(image.get("url")))
+                .provider(asString(image.get("provider")))
+                .publicId(asString(image.get("publicId")))
+                .width(image.get("width") instanceof Number n ? n.intValue() : null)
+                .height(image.get("height") instanceof Number n ? n.intValue() : null)
+                .format(asString(image.get("format")))
+                .bytes(image.get("bytes") instanceof Number n ? n.longValue() : null)
+                .altText(asString(image.get("altText")))
+                .displayOrder(image.get("displayOrder") instanceof Number n ? n.intValue() : null)
+                .transformations(image.get("transformations") instanceof Map<?, ?> t
+                        ? (Map<String, String>) Collections.unmodifiableMap(new LinkedHashMap<>(t))
+                        : null)
+                .build();
+    }
+
+    /**
+     * Vuelve no modificables el documento y sus mapas y listas anidados, ya
+     * que la instancia parseada se comparte entre lecturas.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T freeze(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(k, freeze(v)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(freeze(item)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private static Map<?, ?> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? map : Map.of();
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String s ? s : null;
+    }
+}
@@ -0,0 +1,467 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.EventMetadata;
+import com.neonpass.domain.model.EventSummary;
+import com.neonpass.domain.model.Organization;
+import com.neonpass.domain.model.Venue;
+import com.neonpass.domain.port.in.SearchEventsUseCase;
+import com.neonpass.domain.port.out.EventRepository;
+import com.neonpass.domain.port.out.OrganizationRepository;
+import com.neonpass.domain.port.out.VenueRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido en memoria de los eventos publicados.
+ *
+ * <p>
+ * Indexa título, descripción, nombre del venue y nombre de la organización,
+ * en minúsculas y sin tildes. Cada término de la consulta coincide con los
+ * términos iguales, con los que empiezan por él (para buscar mientras se
+ * escribe) y, desde cuatro letras, con los que están a una edición de
+ * distancia. Para estos últimos se guardan las variantes de cada término con
+ * una letra borrada, así que no se recorre el vocabulario.
+ * </p>
+ *
+ * <p>
+ * Un evento aparece si coincide con todos los términos de la consulta salvo
+ * artículos y preposiciones. La relevancia suma, por término, el peso del
+ * campo donde aparece ponderado por el tipo de coincidencia.
+ * </p>
+ *
+ * <p>
+ * Los cambios de este nodo se aplican al confirmar cada transacción. Cada
+ * {@code event-search.rebuild-minutes} se reconstruye el índice desde la base
+ * de datos para recoger los de otros nodos.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventSearchIndex implements SearchEventsUseCase {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float NAME_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final float PREFIX_FACTOR = 0.7f;
+    private static final float FUZZY_FACTOR = 0.4f;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "de", "del", "el", "en", "la", "las", "los", "un", "una", "y",
+            "and", "at", "of", "the");
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final EventRepository eventRepository;
+    private final VenueRepository venueRepository;
+    private final OrganizationRepository organizationRepository;
+    private final EventMetadataService eventMetadataService;
+
+    @Value("${event-search.rebuild-minutes:10}")
+    private long rebuildMinutes;
+
+    private record Document(EventSummary summary, UUID venueId, Map<String, Float> terms) {
+    }
+
+    private record Scored(Document document, float score) {
+    }
+
+    /** Protege todas las estructuras del índice */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    /** Término -> peso por evento */
+    private final TreeMap<String, Map<UUID, Float>> postings = new TreeMap<>();
+    /** Término con una letra borrada -> términos de los que sale */
+    private final Map<String, Set<String>> deletions = new HashMap<>();
+    /** Momento (nanoTime) del último cambio incremental por evento */
+    private final Map<UUID, Long> updatedAt = new HashMap<>();
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * El primer índice se arma con la aplicación lista, cuando los eventos
+     * sembrados ya están guardados, y luego cada
+     * {@code event-search.rebuild-minutes}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        rebuilder.scheduleAtFixedRate(this::rebuild, 0, rebuildMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void stop() {
+        rebuilder.shutdownNow();
+    }
+
+    @Override
+    public List<EventSummary> search(SearchEventsQuery query) {
+        List<String> tokens = tokenize(query.text()).stream().distinct().toList();
+        List<String> required = tokens.stream().filter(token -> !STOPWORDS.contains(token)).toList();
+        List<String> optional = tokens.stream().filter(STOPWORDS::contains).toList();
+        if (required.isEmpty()) {
+            required = optional;
+            optional = List.of();
+        }
+        if (required.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Float> scores = null;
+            for (String token : required) {
+                Map<UUID, Float> matches = match(token);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((id, score) -> score + matches.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            for (String token : optional) {
+                Map<UUID, Float> matches = match(token);
+                scores.replaceAll((id, score) -> score + matches.getOrDefault(id, 0f));
+            }
+
+            List<Scored> results = new ArrayList<>();
+            for (Map.Entry<UUID, Float> entry : scores.entrySet()) {
+                Document document = documents.get(entry.getKey());
+                if (matchesFilters(document, query)) {
+                    results.add(new Scored(document, entry.getValue()));
+                }
+            }
+
+            results.sort(Comparator.comparingDouble((Scored scored) -> -scored.score())
+                    .thenComparing(scored -> scored.document().summary().getStartTime(),
+                            Comparator.nullsLast(Comparator.naturalOrder())));
+
+            return results.stream()
+                    .limit(query.limit())
+                    .map(scored -> scored.document().summary())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Actualiza el evento en el índice al confirmar la transacción: lo agrega
+     * o reemplaza si está publicado y lo quita si no. Debe llamarse en cada
+     * escritura de título, descripción, venue, estado o imágenes.
+     */
+    public void indexEvent(Event event) {
+        UUID eventId = event.getId();
+        Document document = isSearchable(event) ? toDocuments(List.of(event)).get(eventId) : null;
+
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(eventId);
+                if (document != null) {
+                    add(document);
+                }
+                updatedAt.put(eventId, System.nanoTime());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Reconstruye el índice con los eventos publicados. Los eventos cambiados
+     * en este nodo mientras se leía la base de datos conservan su versión
+     * incremental, que es más reciente.
+     */
+    private void rebuild() {
+        try {
+            long startedAt = System.nanoTime();
+            Map<UUID, Document> loaded = toDocuments(eventRepository.findPublished());
+
+            lock.writeLock().lock();
+            try {
+                Map<UUID, Document> current = new HashMap<>(documents);
+                documents.clear();
+                postings.clear();
+                deletions.clear();
+
+                for (Document document : loaded.values()) {
+                    if (!changedSince(document.summary().getId(), startedAt)) {
+                        add(document);
+                    }
+                }
+                for (Map.Entry<UUID, Long> change : updatedAt.entrySet()) {
+                    Document document = current.get(change.getKey());
+                    if (change.getValue() - startedAt >= 0 && document != null) {
+                        add(document);
+                    }
+                }
+                updatedAt.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Índice de búsqueda reconstruido con {} eventos", loaded.size());
+        } catch (RuntimeException e) {
+            log.error("Error reconstruyendo el índice de búsqueda", e);
+        }
+    }
+
+    private boolean changedSince(UUID eventId, long since) {
+        Long changedAt = updatedAt.get(eventId);
+        return changedAt != null && changedAt - since >= 0;
+    }
+
+    private Map<UUID, Float> match(String token) {
+        Map<UUID, Float> scores = new HashMap<>();
+        collect(token, 1f, scores);
+
+        String upperBound = token + Character.MAX_VALUE;
+        for (String term : postings.subMap(token, false, upperBound, false).keySet()) {
+            collect(term, PREFIX_FACTOR, scores);
+        }
+
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            for (String term : similarTerms(token)) {
+                collect(term, FUZZY_FACTOR, scores);
+            }
+        }
+        return scores;
+    }
+
+    private void collect(String term, float factor, Map<UUID, Float> scores) {
+        Map<UUID, Float> posting = postings.get(term);
+        if (posting != null) {
+            posting.forEach((eventId, weight) -> scores.merge(eventId, weight * factor, Math::max));
+        }
+    }
+
+    /**
+     * Términos indexados a una inserción, borrado, sustitución o transposición
+     * de {@code token}.
+     */
+    private Set<String> similarTerms(String token) {
+        Set<String> candidates = new HashSet<>(deletions.getOrDefault(token, Set.of()));
+        for (String variant : deletionsOf(token)) {
+            if (postings.containsKey(variant)) {
+                candidates.add(variant);
+            }
+            candidates.addAll(deletions.getOrDefault(variant, Set.of()));
+        }
+        candidates.remove(token);
+        candidates.removeIf(term -> !withinOneEdit(token, term));
+        return candidates;
+    }
+
+    private boolean matchesFilters(Document document, SearchEventsQuery query) {
+        if (query.venueId() != null && !query.venueId().equals(document.venueId())) {
+            return false;
+        }
+        if (query.from() == null && query.to() == null) {
+            return true;
+        }
+        var startTime = document.summary().getStartTime();
+        if (startTime == null) {
+            return false;
+        }
+        return (query.from() == null || !startTime.isBefore(query.from()))
+                && (query.to() == null || !startTime.isAfter(query.to()));
+    }
+
+    private void add(Document document) {
+        UUID eventId = document.summary().getId();
+        documents.put(eventId, document);
+        document.terms().forEach((term, weight) -> {
+            Map<UUID, Float> posting = postings.get(term);
+            if (posting == null) {
+                posting = new HashMap<>();
+                postings.put(term, posting);
+                if (term.length() >= MIN_FUZZY_LENGTH) {
+                    for (String variant : deletionsOf(term)) {
+                        deletions.computeIfAbsent(variant, key -> new HashSet<>()).add(term);
+                    }
+                }
+            }
+            posting.put(eventId, weight);
+        });
+    }
+
+    private void remove(UUID eventId) {
+        Document document = documents.remove(eventId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms().keySet()) {
+            Map<UUID, Float> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(eventId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                for (String variant : deletionsOf(term)) {
+                    Set<String> terms = deletions.get(variant);
+                    if (terms != null) {
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            deletions.remove(variant);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<UUID, Document> toDocuments(List<Event> events) {
+        Set<UUID> venueIds = new HashSet<>();
+        Set<UUID> organizationIds = new HashSet<>();
+        for (Event event : events) {
+            if (event.getVenueId() != null) {
+                venueIds.add(event.getVenueId());
+            }
+            if (event.getOrganizationId() != null) {
+                organizationIds.add(event.getOrganizationId());
+            }
+        }
+
+        Map<UUID, String> venueNames = new HashMap<>();
+        if (!venueIds.isEmpty()) {
+            for (Venue venue : venueRepository.findAllById(venueIds)) {
+                venueNames.put(venue.getId(), venue.getName());
+            }
+        }
+        Map<UUID, String> organizationNames = new HashMap<>();
+        if (!organizationIds.isEmpty()) {
+            for (Organization organization : organizationRepository.findAllById(organizationIds)) {
+                organizationNames.put(organization.getId(), organization.getName());
+            }
+        }
+
+        Map<UUID, Document> documents = new HashMap<>();
+        for (Event event : events) {
+            String venueName = event.getVenueId() != null ? venueNames.get(event.getVenueId()) : null;
+            String organizationName = event.getOrganizationId() != null
+                    ? organizationNames.get(event.getOrganizationId())
+                    : null;
+
+            Map<String, Float> terms = new HashMap<>();
+            addTerms(terms, event.getDescription(), DESCRIPTION_WEIGHT);
+            addTerms(terms, venueName, NAME_WEIGHT);
+            addTerms(terms, organizationName, NAME_WEIGHT);
+            addTerms(terms, event.getTitle(), TITLE_WEIGHT);
+
+            EventSummary summary = EventSummary.builder()
+                    .id(event.getId())
+                    .title(event.getTitle())
+                    .description(event.getDescription() != null
+                            && event.getDescription().length() > EventSummary.LOADED_DESCRIPTION_LENGTH
+                                    ? event.getDescription().substring(0, EventSummary.LOADED_DESCRIPTION_LENGTH)
+                                    : event.getDescription())
+                    .startTime(event.getStartTime())
+                    .endTime(event.getEndTime())
+                    .status(event.getStatus())
+                    .thumbnailUrl(thumbnailUrl(eventMetadataService.of(event)))
+                    .venueName(venueName)
+                    .build();
+
+            documents.put(event.getId(), new Document(summary, event.getVenueId(), terms));
+        }
+        return documents;
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Math::max);
+        }
+    }
+
+    private static String thumbnailUrl(EventMetadata metadata) {
+        if (metadata.getThumbnail() != null && metadata.getThumbnail().getUrl() != null) {
+            return metadata.getThumbnail().getUrl();
+        }
+        return metadata.getBanner() != null ? metadata.getBanner().getUrl() : null;
+    }
+
+    private static boolean isSearchable(Event event) {
+        return event.isPublished() && !Boolean.TRUE.equals(event.getDeleted());
+    }
+
+    /**
+     * Minúsculas, sin tildes y separado por todo lo que no sea letra o número.
+     */
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(
+                Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)).replaceAll("");
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> deletionsOf(String term) {
+        List<String> variants = new ArrayList<>(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            variants.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return variants;
+    }
+
+    /**
+     * Distancia de edición (con transposición de letras vecinas) a lo sumo 1.
+     */
+    private static boolean withinOneEdit(String a, String b) {
+        int la = a.length();
+        int lb = b.length();
+        if (Math.abs(la - lb) > 1) {
+            return false;
+        }
+
+        int i = 0;
+        while (i < Math.min(la, lb) && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+
+        if (la == lb) {
+            if (i == la || a.regionMatches(i + 1, b, i + 1, la - i - 1)) {
+                return true;
+            }
+            return i + 1 < la
+                    && a.charAt(i) == b.charAt(i + 1)
+                    && a.charAt(i + 1) == b.charAt(i)
+                    && a.regionMatches(i + 2, b, i + 2, la - i - 2);
+        }
+        return la > lb
+                ? a.regionMatches(i + 1, b, i, lb - i)
+                : b.regionMatches(i + 1, a, i, la - i);
+    }
+}
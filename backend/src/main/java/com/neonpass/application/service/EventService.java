@@ -2,6 +2,9 @@ package com.neonpass.application.service;
 
 import com.neonpass.domain.exception.EventNotFoundException;
 import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.EventSummary;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.enums.EventStatus;
 import com.neonpass.domain.port.in.CreateEventUseCase;
 import com.neonpass.domain.port.in.GetEventUseCase;
@@ -13,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -26,6 +28,9 @@ import java.util.UUID;
 public class EventService implements CreateEventUseCase, GetEventUseCase, ListEventsUseCase {
 
     private final EventRepository eventRepository;
+    private final PlatformMetricsService platformMetricsService;
+    private final EventCatalogCache eventCatalogCache;
+    private final EventSearchIndex eventSearchIndex;
 
     @Override
     public Event execute(CreateEventCommand command) {
@@ -45,6 +50,9 @@ public class EventService implements CreateEventUseCase, GetEventUseCase, ListEv
                 .build();
 
         Event savedEvent = eventRepository.save(event);
+        platformMetricsService.recordEventCreated(savedEvent.getStatus());
+        eventCatalogCache.invalidateEvent(savedEvent.getId());
+        eventSearchIndex.indexEvent(savedEvent);
         log.info("Evento creado exitosamente: {}", savedEvent.getId());
 
         return savedEvent;
@@ -61,8 +69,8 @@ public class EventService implements CreateEventUseCase, GetEventUseCase, ListEv
 
     @Override
     @Transactional(readOnly = true)
-    public List<Event> execute() {
+    public PageResult<EventSummary> execute(PageCursor after, int page, int size) {
         log.info("Listando eventos publicados");
-        return eventRepository.findPublished();
+        return eventRepository.findPublishedSummaries(after, page, size, EventSummary.LOADED_DESCRIPTION_LENGTH);
     }
 }
@@ -0,0 +1,318 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.Order;
+import com.neonpass.domain.model.Seat;
+import com.neonpass.domain.model.Section;
+import com.neonpass.domain.model.Ticket;
+import com.neonpass.domain.model.TicketTier;
+import com.neonpass.domain.model.Venue;
+import com.neonpass.domain.model.WalletTicket;
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.port.out.*;
+import com.neonpass.infrastructure.adapter.in.web.dto.response.MyTicketResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de la billetera de tickets del usuario.
+ *
+ * <p>
+ * La billetera se lee de {@link WalletTicketRepository}, una fila
+ * desnormalizada por ticket que se escribe en el checkout y se actualiza al
+ * validar el ticket o editar el evento, de modo que abrirla es una sola
+ * consulta por usuario. Las filas se insertan con
+ * {@link WalletTicketRepository#insertMissing}, así que el checkout y
+ * {@link WalletBackfill} pueden escribir el mismo ticket sin chocar.
+ * </p>
+ *
+ * <p>
+ * Los tickets anteriores al modelo de lectura los migra
+ * {@link WalletBackfill} al arrancar. Hasta que termina, la billetera se
+ * arma desde las tablas de origen sin escribir nada; las lecturas nunca
+ * escriben en el modelo.
+ * </p>
+ *
+ * <p>
+ * Para construir las filas, los datos de evento, venue, asiento, sección y
+ * tier se cargan con una consulta por tipo para todos los tickets a la vez.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MyTicketService {
+
+    private static final String GENERAL_ADMISSION = "General Admission";
+
+    private final WalletTicketRepository walletTicketRepository;
+    private final OrderRepository orderRepository;
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final VenueRepository venueRepository;
+    private final SeatRepository seatRepository;
+    private final SectionRepository sectionRepository;
+    private final TicketTierRepository ticketTierRepository;
+
+    /** true cuando el backfill terminó y todo ticket tiene su fila */
+    private volatile boolean backfilled;
+
+    /**
+     * Obtiene todos los tickets del usuario ordenados por fecha de compra.
+     */
+    @Transactional(readOnly = true)
+    public List<MyTicketResponse> getMyTickets(UUID userId) {
+        List<WalletTicket> wallet = backfilled
+                ? walletTicketRepository.findByUserId(userId)
+                : fromSource(userId);
+        return wallet.stream().map(this::toResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene un ticket verificando que pertenezca al usuario.
+     */
+    @Transactional(readOnly = true)
+    public MyTicketResponse getTicket(UUID ticketId, UUID userId) {
+        Optional<WalletTicket> cached = walletTicketRepository.findByTicketId(ticketId);
+        if (cached.isPresent()) {
+            if (!cached.get().getUserId().equals(userId)) {
+                throw new RuntimeException("Access denied");
+            }
+            return toResponse(cached.get());
+        }
+
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+
+        Order order = orderRepository.findById(ticket.getOrderId())
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+
+        if (!order.getUserId().equals(userId)) {
+            throw new RuntimeException("Access denied");
+        }
+
+        return toResponse(hydrate(userId, List.of(ticket)).get(0));
+    }
+
+    /**
+     * Agrega a la billetera los tickets recién comprados. Debe llamarse en la
+     * misma transacción que los crea.
+     */
+    @Transactional
+    public void recordPurchase(UUID userId, List<Ticket> tickets) {
+        walletTicketRepository.insertMissing(hydrate(userId, tickets));
+    }
+
+    /**
+     * Inserta las filas de la siguiente tanda de tickets sin billetera. Los
+     * tickets se leen con bloqueo compartido: un canje concurrente espera a
+     * que la fila exista y la actualiza, en vez de perderse y dejar el
+     * ticket como VALID en la billetera.
+     *
+     * @param after último ticket de la tanda anterior
+     * @return último ticket de esta tanda, o null si no quedan
+     */
+    @Transactional
+    public UUID backfill(UUID after, int batchSize) {
+        List<Ticket> tickets = ticketRepository.findMissingFromWallet(after, batchSize);
+        if (tickets.isEmpty()) {
+            return null;
+        }
+
+        Map<UUID, UUID> userByOrder = orderRepository.findAllById(idsOf(tickets, Ticket::getOrderId)).stream()
+                .collect(Collectors.toMap(Order::getId, Order::getUserId));
+        Map<UUID, List<Ticket>> byUser = new HashMap<>();
+        for (Ticket ticket : tickets) {
+            UUID userId = userByOrder.get(ticket.getOrderId());
+            if (userId != null) {
+                byUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(ticket);
+            }
+        }
+        byUser.forEach((userId, userTickets) -> walletTicketRepository.insertMissing(hydrate(userId, userTickets)));
+
+        return tickets.get(tickets.size() - 1).getId();
+    }
+
+    /**
+     * A partir de aquí la billetera se lee solo del modelo de lectura.
+     */
+    public void markBackfilled() {
+        backfilled = true;
+    }
+
+    /**
+     * Refleja en la billetera el nuevo estado de un ticket validado.
+     */
+    @Transactional
+    public void recordStatusChange(Ticket ticket) {
+        walletTicketRepository.updateStatus(ticket.getId(), ticket.getStatus(), ticket.getScannedAt());
+    }
+
+    /**
+     * Igual que {@link #recordStatusChange(Ticket)} para varios tickets, con
+     * una sentencia por combinación de estado y hora de escaneo.
+     */
+    @Transactional
+    public void recordStatusChanges(Collection<Ticket> tickets) {
+        record StatusChange(TicketStatus status, LocalDateTime scannedAt) {
+        }
+
+        Map<StatusChange, List<UUID>> byChange = new HashMap<>();
+        for (Ticket ticket : tickets) {
+            byChange.computeIfAbsent(new StatusChange(ticket.getStatus(), ticket.getScannedAt()),
+                    key -> new ArrayList<>()).add(ticket.getId());
+        }
+        byChange.forEach((change, ticketIds) -> walletTicketRepository.updateStatusIn(
+                ticketIds, change.status(), change.scannedAt()));
+    }
+
+    /**
+     * Refleja en la billetera los datos actuales de un evento y su venue.
+     */
+    @Transactional
+    public void refreshEvent(Event event) {
+        Venue venue = event.getVenueId() != null
+                ? venueRepository.findById(event.getVenueId()).orElse(null)
+                : null;
+
+        walletTicketRepository.updateEventInfo(
+                event.getId(),
+                event.getTitle(),
+                event.getStartTime(),
+                venue != null ? venue.getName() : null,
+                venue != null ? venue.getAddress() : null);
+    }
+
+    private List<WalletTicket> fromSource(UUID userId) {
+        List<Order> orders = orderRepository.findByUserId(userId);
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        List<Ticket> tickets = ticketRepository.findByOrderIdIn(orders.stream().map(Order::getId).toList());
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        List<WalletTicket> wallet = new ArrayList<>(hydrate(userId, tickets));
+        wallet.sort(Comparator.comparing(WalletTicket::getPurchasedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(WalletTicket::getTicketId));
+        return wallet;
+    }
+
+    private List<WalletTicket> hydrate(UUID userId, List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Event> events = byId(eventRepository.findAllById(
+                idsOf(tickets, Ticket::getEventId)), Event::getId);
+        Map<UUID, Venue> venues = byId(venueRepository.findAllById(
+                idsOf(events.values(), Event::getVenueId)), Venue::getId);
+        Map<UUID, Seat> seats = byId(seatRepository.findAllById(
+                idsOf(tickets, Ticket::getSeatId)), Seat::getId);
+        Map<UUID, TicketTier> tiers = byId(ticketTierRepository.findAllById(
+                idsOf(tickets, Ticket::getTicketTierId)), TicketTier::getId);
+
+        Set<UUID> sectionIds = idsOf(seats.values(), Seat::getSectionId);
+        sectionIds.addAll(idsOf(tickets, Ticket::getSectionId));
+        Map<UUID, Section> sections = byId(sectionRepository.findAllById(sectionIds), Section::getId);
+
+        List<WalletTicket> wallet = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            WalletTicket.WalletTicketBuilder builder = WalletTicket.builder()
+                    .ticketId(ticket.getId())
+                    .userId(userId)
+                    .orderId(ticket.getOrderId())
+                    .eventId(ticket.getEventId())
+                    .price(ticket.getPriceSnapshot())
+                    .currency(ticket.getCurrencySnapshot())
+                    .qrCodeHash(ticket.getQrCodeHash())
+                    .status(ticket.getStatus())
+                    .scannedAt(ticket.getScannedAt())
+                    .purchasedAt(ticket.getCreatedAt());
+
+            Event event = events.get(ticket.getEventId());
+            if (event != null) {
+                builder.eventTitle(event.getTitle());
+                builder.eventDate(event.getStartTime());
+
+                Venue venue = event.getVenueId() != null ? venues.get(event.getVenueId()) : null;
+                if (venue != null) {
+                    builder.venueName(venue.getName());
+                    builder.venueAddress(venue.getAddress());
+                }
+            }
+
+            if (ticket.getSeatId() != null) {
+                Seat seat = seats.get(ticket.getSeatId());
+                if (seat != null) {
+                    builder.row(seat.getRowLabel());
+                    builder.seatNumber(seat.getNumberLabel());
+
+                    Section section = seat.getSectionId() != null ? sections.get(seat.getSectionId()) : null;
+                    if (section != null) {
+                        builder.sectionName(section.getName());
+                    }
+                }
+            } else {
+                Section section = ticket.getSectionId() != null ? sections.get(ticket.getSectionId()) : null;
+                builder.sectionName(section != null ? section.getName() : GENERAL_ADMISSION);
+            }
+
+            TicketTier tier = ticket.getTicketTierId() != null ? tiers.get(ticket.getTicketTierId()) : null;
+            if (tier != null) {
+                builder.tierName(tier.getName());
+            }
+
+            wallet.add(builder.build());
+        }
+        return wallet;
+    }
+
+    private MyTicketResponse toResponse(WalletTicket ticket) {
+        return MyTicketResponse.builder()
+                .id(ticket.getTicketId())
+                .eventId(ticket.getEventId())
+                .eventTitle(ticket.getEventTitle())
+                .eventDate(ticket.getEventDate())
+                .venueName(ticket.getVenueName())
+                .venueAddress(ticket.getVenueAddress())
+                .sectionName(ticket.getSectionName())
+                .row(ticket.getRow())
+                .seatNumber(ticket.getSeatNumber())
+                .tierName(ticket.getTierName())
+                .price(ticket.getPrice())
+                .currency(ticket.getCurrency())
+                .qrCodeHash(ticket.getQrCodeHash())
+                .status(ticket.getStatus())
+                .scannedAt(ticket.getScannedAt())
+                .purchasedAt(ticket.getPurchasedAt())
+                .build();
+    }
+
+    private static <T> Set<UUID> idsOf(Collection<T> items, Function<T, UUID> id) {
+        Set<UUID> ids = new HashSet<>();
+        for (T item : items) {
+            UUID value = id.apply(item);
+            if (value != null) {
+                ids.add(value);
+            }
+        }
+        return ids;
+    }
+
+    private static <T> Map<UUID, T> byId(List<T> items, Function<T, UUID> id) {
+        if (items.isEmpty()) {
+            return Map.of();
+        }
+        return items.stream().collect(Collectors.toMap(id, Function.identity(), (a, b) -> a));
+    }
+}
@@ -0,0 +1,84 @@
+package com.neonpass.application.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * Firma Ed25519 de los bundles de validación sin conexión.
+ *
+ * <p>
+ * Los escáneres solo reciben la clave pública: pueden comprobar que un
+ * bundle salió del servidor pero no fabricar uno, y nunca ven
+ * {@code ticket.signing.secret}. El par se configura con
+ * {@code offline-validation.private-key} (PKCS#8) y
+ * {@code offline-validation.public-key} (X.509), ambos en base64. Sin
+ * configurar se genera un par al arrancar, válido solo para ese nodo y hasta
+ * el siguiente reinicio.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OfflineBundleSigner {
+
+    public static final String ALGORITHM = "Ed25519";
+
+    @Value("${offline-validation.private-key:}")
+    private String privateKeyBase64;
+
+    @Value("${offline-validation.public-key:}")
+    private String publicKeyBase64;
+
+    private PrivateKey privateKey;
+    private PublicKey publicKey;
+
+    @PostConstruct
+    void init() throws GeneralSecurityException {
+        if (privateKeyBase64.isBlank() || publicKeyBase64.isBlank()) {
+            KeyPair pair = KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+            privateKey = pair.getPrivate();
+            publicKey = pair.getPublic();
+            log.warn("Clave de bundles offline generada al arrancar; configura "
+                    + "offline-validation.private-key y public-key para compartirla entre nodos");
+            return;
+        }
+
+        KeyFactory factory = KeyFactory.getInstance(ALGORITHM);
+        Base64.Decoder decoder = Base64.getDecoder();
+        privateKey = factory.generatePrivate(new PKCS8EncodedKeySpec(decoder.decode(privateKeyBase64.trim())));
+        publicKey = factory.generatePublic(new X509EncodedKeySpec(decoder.decode(publicKeyBase64.trim())));
+    }
+
+    /**
+     * {@link Signature} listo para firmar; se alimenta mientras se escribe el
+     * bundle.
+     */
+    public Signature newSignature() {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo inicializar " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Clave pública en X.509 (DER) codificada en base64, para los escáneres.
+     */
+    public String publicKey() {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+}
@@ -0,0 +1,319 @@
+package com.neonpass.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neonpass.domain.exception.EventNotFoundException;
+import com.neonpass.domain.model.Ticket;
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.model.enums.ValidationStatus;
+import com.neonpass.domain.port.in.OfflineValidationUseCase;
+import com.neonpass.domain.port.out.EventRepository;
+import com.neonpass.domain.port.out.TicketRepository;
+import com.neonpass.domain.port.out.TicketValidationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * Servicio de validación sin conexión.
+ *
+ * <p>
+ * El bundle es un archivo binario (big-endian) que el escáner guarda para
+ * validar sin red:
+ * </p>
+ * <ul>
+ * <li>4 bytes: {@code NPVB}</li>
+ * <li>1 byte: versión ({@value #BUNDLE_VERSION})</li>
+ * <li>16 bytes: ID del evento</li>
+ * <li>8 bytes: {@code generatedAt} en milisegundos epoch</li>
+ * <li>4 bytes: cantidad N de tickets</li>
+ * <li>N × 16 bytes: IDs de tickets VALID, en orden ascendente sin signo
+ * (búsqueda binaria en el escáner)</li>
+ * <li>64 bytes: firma Ed25519 de todo lo anterior
+ * ({@link OfflineBundleSigner}); el escáner la verifica con la clave
+ * pública</li>
+ * </ul>
+ *
+ * <p>
+ * Sin conexión el escáner lee el ID del ticket del QR y lo busca en el
+ * bundle; no puede verificar la firma del QR porque no tiene
+ * {@code ticket.signing.secret}. Los IDs no son secretos (van en claro en el
+ * QR), así que un QR falsificado con un ID válido pasa en puerta. Al
+ * sincronizar el escáner sube los QR completos y el servidor verifica cada
+ * firma: un QR falsificado se rechaza y no canjea el ticket.
+ * </p>
+ *
+ * <p>
+ * Al sincronizar, gana el primer canje registrado en el servidor: un escaneo
+ * sin conexión de un ticket que otra puerta ya canjeó se devuelve como
+ * {@link ValidationStatus#DUPLICATE_ATTEMPT} con la hora del canje original.
+ * Las horas de escaneo posteriores al sync se toman como la hora del sync.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OfflineValidationService implements OfflineValidationUseCase {
+
+    private static final int BUNDLE_VERSION = 2;
+
+    private static final byte[] BUNDLE_MAGIC = "NPVB".getBytes(StandardCharsets.US_ASCII);
+
+    /** Orden de bytes sin signo, el mismo que usa el escáner para buscar */
+    private static final Comparator<UUID> UNSIGNED_ORDER = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketValidationRepository validationRepository;
+    private final MyTicketService myTicketService;
+    private final RedemptionIndex redemptionIndex;
+    private final ObjectMapper objectMapper;
+    private final TicketSigner ticketSigner;
+    private final OfflineBundleSigner bundleSigner;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ValidationBundle exportBundle(UUID eventId) {
+        requireEvent(eventId);
+
+        // Se toma antes de la consulta para que el próximo sync incluya
+        // cualquier canje concurrente
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<UUID> ticketIds = new ArrayList<>(ticketRepository.findIdsByEventIdAndStatus(eventId, TicketStatus.VALID));
+        ticketIds.sort(UNSIGNED_ORDER);
+
+        // Los escáneres descargan el bundle antes de abrir puertas: se
+        // aprovecha para cargar los canjes del evento en memoria
+        redemptionIndex.warm(eventId);
+
+        log.info("Bundle offline del evento {} con {} tickets", eventId, ticketIds.size());
+        return new ValidationBundle(eventId, generatedAt, ticketIds);
+    }
+
+    /**
+     * Escribe el bundle en el formato binario firmado.
+     */
+    public void writeBundle(ValidationBundle bundle, OutputStream out) throws IOException {
+        Signature signature = bundleSigner.newSignature();
+        DataOutputStream data = new DataOutputStream(new SigningOutputStream(out, signature));
+
+        data.write(BUNDLE_MAGIC);
+        data.writeByte(BUNDLE_VERSION);
+        writeUuid(data, bundle.eventId());
+        data.writeLong(bundle.generatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        data.writeInt(bundle.ticketIds().size());
+        for (UUID ticketId : bundle.ticketIds()) {
+            writeUuid(data, ticketId);
+        }
+        data.flush();
+
+        try {
+            out.write(signature.sign());
+        } catch (SignatureException e) {
+            throw new IOException("No se pudo firmar el bundle", e);
+        }
+        out.flush();
+    }
+
+    /**
+     * Clave pública con la que el escáner verifica el bundle.
+     */
+    public String bundlePublicKey() {
+        return bundleSigner.publicKey();
+    }
+
+    @Override
+    @Transactional
+    public SyncResult sync(SyncCommand command) {
+        requireEvent(command.eventId());
+        LocalDateTime syncedAt = LocalDateTime.now();
+
+        // Solo cuentan los QR con firma válida y del evento. Ningún escaneo
+        // puede quedar registrado después del propio sync.
+        List<OfflineScan> scans = command.scans();
+        UUID[] scannedIds = new UUID[scans.size()];
+        LocalDateTime[] scannedAts = new LocalDateTime[scans.size()];
+        for (int i = 0; i < scans.size(); i++) {
+            OfflineScan scan = scans.get(i);
+            scannedIds[i] = ticketIdOf(scan.qrCodeHash(), command.eventId());
+            scannedAts[i] = scan.scannedAt().isAfter(syncedAt) ? syncedAt : scan.scannedAt();
+        }
+
+        // El escaneo más temprano de cada ticket es el que se intenta canjear
+        Map<UUID, Integer> firstScan = new HashMap<>();
+        for (int i = 0; i < scans.size(); i++) {
+            if (scannedIds[i] == null) {
+                continue;
+            }
+            Integer current = firstScan.get(scannedIds[i]);
+            if (current == null || scannedAts[i].isBefore(scannedAts[current])) {
+                firstScan.put(scannedIds[i], i);
+            }
+        }
+        Map<UUID, LocalDateTime> firstScans = new HashMap<>();
+        firstScan.forEach((ticketId, index) -> firstScans.put(ticketId, scannedAts[index]));
+
+        Map<UUID, Ticket> redeemed = new HashMap<>();
+        if (!firstScans.isEmpty()) {
+            for (Ticket ticket : ticketRepository.redeemOffline(command.eventId(), firstScans,
+                    command.validatedBy(), syncedAt, locationMetadata(command.deviceId()))) {
+                redeemed.put(ticket.getId(), ticket);
+            }
+            myTicketService.recordStatusChanges(redeemed.values());
+            redemptionIndex.markRedeemed(command.eventId(), List.copyOf(redeemed.keySet()));
+        }
+
+        Set<UUID> rejectedIds = new HashSet<>(firstScans.keySet());
+        rejectedIds.removeAll(redeemed.keySet());
+        Map<UUID, Ticket> rejected = new HashMap<>();
+        if (!rejectedIds.isEmpty()) {
+            for (Ticket ticket : ticketRepository.findAllById(rejectedIds)) {
+                rejected.put(ticket.getId(), ticket);
+            }
+            redemptionIndex.remember(command.eventId(), rejected.values().stream()
+                    .filter(ticket -> command.eventId().equals(ticket.getEventId()))
+                    .filter(ticket -> ticket.getStatus() == TicketStatus.USED)
+                    .map(Ticket::getId)
+                    .toList());
+        }
+
+        List<ScanResult> results = new ArrayList<>(scans.size());
+        for (int i = 0; i < scans.size(); i++) {
+            UUID ticketId = scannedIds[i];
+            if (ticketId == null) {
+                results.add(new ScanResult(null, ValidationStatus.REJECTED, null,
+                        "QR inválido o de otro evento"));
+                continue;
+            }
+
+            Ticket ticket = redeemed.get(ticketId);
+            if (ticket != null && firstScan.get(ticketId) == i) {
+                results.add(new ScanResult(ticket.getId(), ValidationStatus.SUCCESS, ticket.getScannedAt(),
+                        "Canje sin conexión registrado"));
+            } else if (ticket != null) {
+                // Escaneo repetido del mismo ticket en este dispositivo
+                results.add(new ScanResult(ticketId, ValidationStatus.DUPLICATE_ATTEMPT,
+                        ticket.getScannedAt(), "El ticket ya había sido escaneado"));
+            } else {
+                results.add(rejection(command.eventId(), ticketId, rejected.get(ticketId)));
+            }
+        }
+
+        List<UUID> redeemedElsewhere = List.of();
+        if (command.since() != null) {
+            redeemedElsewhere = validationRepository.findTicketIdsValidatedSince(command.eventId(), command.since())
+                    .stream()
+                    .filter(ticketId -> !redeemed.containsKey(ticketId))
+                    .toList();
+        }
+
+        log.info("Sync offline del evento {} (dispositivo {}): {} de {} escaneos canjeados",
+                command.eventId(), command.deviceId(), redeemed.size(), scans.size());
+
+        return new SyncResult(results, redeemedElsewhere, syncedAt);
+    }
+
+    /**
+     * ID del ticket de un QR con firma válida emitido para el evento, o null.
+     * Formato del payload: {@code ticketId:eventId:seatId:timestamp}.
+     */
+    private UUID ticketIdOf(String qrCodeHash, UUID eventId) {
+        String[] parts = ticketSigner.verifiedPayload(qrCodeHash)
+                .map(payload -> payload.split(":"))
+                .orElse(null);
+        if (parts == null || parts.length < 2 || !eventId.toString().equals(parts[1])) {
+            return null;
+        }
+        try {
+            return UUID.fromString(parts[0]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ScanResult rejection(UUID eventId, UUID ticketId, Ticket ticket) {
+        if (ticket == null || !eventId.equals(ticket.getEventId())) {
+            return new ScanResult(ticketId, ValidationStatus.REJECTED, null,
+                    "Ticket no encontrado para el evento");
+        }
+        if (ticket.getStatus() == TicketStatus.USED) {
+            log.warn("Conflicto offline: ticket {} ya canjeado a las {}", ticket.getId(), ticket.getScannedAt());
+            return new ScanResult(ticket.getId(), ValidationStatus.DUPLICATE_ATTEMPT, ticket.getScannedAt(),
+                    "El ticket ya había sido canjeado en otra puerta");
+        }
+        return new ScanResult(ticket.getId(), ValidationStatus.REJECTED, null,
+                "El ticket tiene estado: " + ticket.getStatus());
+    }
+
+    private void requireEvent(UUID eventId) {
+        if (eventRepository.findById(eventId).isEmpty()) {
+            throw new EventNotFoundException(eventId);
+        }
+    }
+
+    private String locationMetadata(String deviceId) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("source", "offline");
+        if (deviceId != null) {
+            metadata.put("deviceId", deviceId);
+        }
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la metadata de validación", e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    /**
+     * Alimenta la firma con todo lo que se escribe.
+     */
+    private static final class SigningOutputStream extends FilterOutputStream {
+
+        private final Signature signature;
+
+        SigningOutputStream(OutputStream out, Signature signature) {
+            super(out);
+            this.signature = signature;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            update(new byte[] {(byte) b}, 0, 1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            update(b, off, len);
+            out.write(b, off, len);
+        }
+
+        private void update(byte[] b, int off, int len) throws IOException {
+            try {
+                signature.update(b, off, len);
+            } catch (SignatureException e) {
+                throw new IOException("No se pudo firmar el bundle", e);
+            }
+        }
+    }
+}
@@ -10,10 +10,11 @@ import com.neonpass.domain.model.enums.OrderStatus;
 import com.neonpass.domain.port.in.CheckoutUseCase;
 import com.neonpass.domain.port.in.GetOrderUseCase;
 import com.neonpass.domain.port.in.GetUserOrdersUseCase;
+import com.neonpass.domain.port.in.SectionCheckoutUseCase;
 import com.neonpass.domain.port.out.EventRepository;
 import com.neonpass.domain.port.out.OrderRepository;
+import com.neonpass.domain.port.out.SeatLock;
 import com.neonpass.domain.port.out.TicketTierRepository;
-import com.neonpass.infrastructure.adapter.out.redis.SeatLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,16 +35,23 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
-public class OrderService implements CheckoutUseCase, GetOrderUseCase, GetUserOrdersUseCase {
+public class OrderService
+        implements CheckoutUseCase, SectionCheckoutUseCase, GetOrderUseCase, GetUserOrdersUseCase {
 
     private final OrderRepository orderRepository;
     private final EventRepository eventRepository;
     private final TicketTierRepository ticketTierRepository;
-    private final SeatLockService seatLockService;
+    private final SeatLock seatLock;
     private final TicketService ticketService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final SectionInventoryService sectionInventoryService;
+    private final MyTicketService myTicketService;
+    private final PlatformMetricsService platformMetricsService;
 
     private static final BigDecimal PLATFORM_FEE_RATE = new BigDecimal("0.05"); // 5%
     private static final String DEFAULT_CURRENCY = "USD";
+    private static final BigDecimal SECTION_FEE_RATE = new BigDecimal("0.10"); // 10%
+    private static final String SECTION_CURRENCY = "PEN";
 
     @Override
     public CheckoutResult execute(CheckoutCommand command) {
@@ -53,11 +63,12 @@ public class OrderService implements CheckoutUseCase, GetOrderUseCase, GetUserOr
                 .orElseThrow(() -> new EventNotFoundException(command.eventId()));
 
         // Verificar que el usuario tiene los bloqueos de todos los asientos
-        for (UUID seatId : command.seatIds()) {
-            if (!seatLockService.isLockedByUser(command.eventId(), seatId, command.userId())) {
-                log.warn("Usuario {} no tiene bloqueo del asiento {}", command.userId(), seatId);
-                throw new SeatNotAvailableException(seatId, command.eventId());
-            }
+        // y renovarlos mientras dura el checkout (un solo round trip)
+        List<UUID> notLocked = seatLock.extendLocks(
+                command.eventId(), command.seatIds(), command.userId());
+        if (!notLocked.isEmpty()) {
+            log.warn("Usuario {} no tiene bloqueo de los asientos {}", command.userId(), notLocked);
+            throw new SeatNotAvailableException(notLocked.get(0), command.eventId());
         }
 
         // Obtener precio (usar primer tier como default por ahora)
@@ -90,20 +101,26 @@ public class OrderService implements CheckoutUseCase, GetOrderUseCase, GetUserOr
         log.info("Orden creada: {}", savedOrder.getId());
 
         // Crear tickets
-        List<UUID> ticketIds = new ArrayList<>();
+        List<Ticket> tickets = new ArrayList<>();
         for (UUID seatId : command.seatIds()) {
             Ticket ticket = ticketService.createTicket(
                     savedOrder.getId(),
                     command.eventId(),
                     tierId,
                     seatId,
+                    null,
                     pricePerTicket,
                     DEFAULT_CURRENCY);
-            ticketIds.add(ticket.getId());
-
-            // Liberar bloqueo Redis (ya está vendido)
-            seatLockService.unlockSeat(command.eventId(), seatId, command.userId());
+            tickets.add(ticket);
         }
+        myTicketService.recordPurchase(command.userId(), tickets);
+        platformMetricsService.recordOrder(savedOrder.getId(), command.eventId(), savedOrder.getCreatedAt(),
+                totalAmount, platformFee, tickets.size());
+        List<UUID> ticketIds = tickets.stream().map(Ticket::getId).toList();
+
+        // Liberar bloqueos Redis (ya están vendidos)
+        seatLock.unlockSeats(command.eventId(), command.seatIds(), command.userId());
+        seatAvailabilityIndex.markSold(command.eventId(), command.seatIds());
 
         log.info("Checkout completado: {} tickets generados", ticketIds.size());
 
@@ -115,6 +132,74 @@ public class OrderService implements CheckoutUseCase, GetOrderUseCase, GetUserOr
                 ticketIds);
     }
 
+    @Override
+    public CheckoutResult execute(SectionCheckoutCommand command) {
+        log.info("Procesando checkout por sección para usuario {} con {} items",
+                command.userId(), command.items().size());
+
+        // Verificar evento
+        eventRepository.findById(command.eventId())
+                .orElseThrow(() -> new EventNotFoundException(command.eventId()));
+
+        // Tomar las entradas antes de crear la orden (todo o nada); se
+        // devuelven si la transacción no confirma
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        command.items().forEach(item -> quantities.merge(item.sectionId(), item.quantity(), Integer::sum));
+        sectionInventoryService.acquireAll(command.eventId(), quantities);
+
+        // Calcular totales
+        BigDecimal subtotal = command.items().stream()
+                .map(item -> item.pricePerTicket().multiply(BigDecimal.valueOf(item.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal platformFee = subtotal.multiply(SECTION_FEE_RATE);
+        BigDecimal totalAmount = subtotal.add(platformFee);
+
+        // Crear orden
+        Order order = Order.builder()
+                .id(UUID.randomUUID())
+                .userId(command.userId())
+                .eventId(command.eventId())
+                .status(OrderStatus.PAID)
+                .totalAmount(totalAmount)
+                .platformFee(platformFee)
+                .netAmount(subtotal)
+                .currency(SECTION_CURRENCY)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        Order savedOrder = orderRepository.save(order);
+        log.info("Orden creada: {}", savedOrder.getId());
+
+        // Crear tickets de admisión general
+        List<Ticket> tickets = new ArrayList<>();
+        for (SectionItem item : command.items()) {
+            for (int i = 0; i < item.quantity(); i++) {
+                Ticket ticket = ticketService.createTicket(
+                        savedOrder.getId(),
+                        command.eventId(),
+                        null,
+                        null,
+                        item.sectionId(),
+                        item.pricePerTicket(),
+                        SECTION_CURRENCY);
+                tickets.add(ticket);
+            }
+        }
+        myTicketService.recordPurchase(command.userId(), tickets);
+        platformMetricsService.recordOrder(savedOrder.getId(), command.eventId(), savedOrder.getCreatedAt(),
+                totalAmount, platformFee, tickets.size());
+        List<UUID> ticketIds = tickets.stream().map(Ticket::getId).toList();
+
+        log.info("Checkout por sección completado: {} tickets generados", ticketIds.size());
+
+        return new CheckoutResult(
+                savedOrder.getId(),
+                ticketIds.size(),
+                totalAmount,
+                SECTION_CURRENCY,
+                ticketIds);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Order getOrder(UUID orderId) {
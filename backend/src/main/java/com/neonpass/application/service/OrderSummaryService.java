@@ -0,0 +1,95 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.Order;
+import com.neonpass.domain.model.User;
+import com.neonpass.domain.port.out.EventRepository;
+import com.neonpass.domain.port.out.TicketRepository;
+import com.neonpass.domain.port.out.UserRepository;
+import com.neonpass.infrastructure.adapter.in.web.dto.response.OrderResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Construye las respuestas de órdenes con el título del evento, la cantidad
+ * de tickets y, para administración, los datos del comprador.
+ *
+ * <p>
+ * Los datos se cargan para todas las órdenes a la vez: una consulta de
+ * eventos, una de usuarios y un conteo de tickets agrupado por orden, sin
+ * importar cuántas órdenes sean.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final TicketRepository ticketRepository;
+
+    /**
+     * @param includeUser si se incluyen el ID, email y nombre del comprador
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> summarize(List<Order> orders, boolean includeUser) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> orderIds = new HashSet<>();
+        Set<UUID> eventIds = new HashSet<>();
+        Set<UUID> userIds = new HashSet<>();
+        for (Order order : orders) {
+            orderIds.add(order.getId());
+            if (order.getEventId() != null) {
+                eventIds.add(order.getEventId());
+            }
+            if (includeUser && order.getUserId() != null) {
+                userIds.add(order.getUserId());
+            }
+        }
+
+        Map<UUID, String> eventTitles = new HashMap<>();
+        for (Event event : eventRepository.findAllById(eventIds)) {
+            eventTitles.put(event.getId(), event.getTitle());
+        }
+        Map<UUID, User> users = userIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(userIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+        Map<UUID, Long> ticketCounts = ticketRepository.countByOrderIdIn(orderIds);
+
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            OrderResponse.OrderResponseBuilder builder = OrderResponse.builder()
+                    .id(order.getId())
+                    .eventId(order.getEventId())
+                    .status(order.getStatus())
+                    .totalAmount(order.getTotalAmount())
+                    .platformFee(order.getPlatformFee())
+                    .netAmount(order.getNetAmount())
+                    .currency(order.getCurrency())
+                    .createdAt(order.getCreatedAt())
+                    .eventTitle(order.getEventId() != null ? eventTitles.get(order.getEventId()) : null)
+                    .ticketCount(ticketCounts.getOrDefault(order.getId(), 0L).intValue());
+
+            if (includeUser) {
+                builder.userId(order.getUserId());
+                User user = order.getUserId() != null ? users.get(order.getUserId()) : null;
+                if (user != null) {
+                    builder.userEmail(user.getEmail());
+                    builder.userName(user.getFullName());
+                }
+            }
+
+            responses.add(builder.build());
+        }
+        return responses;
+    }
+}
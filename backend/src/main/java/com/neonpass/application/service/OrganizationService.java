@@ -23,6 +23,7 @@ import java.util.UUID;
 public class OrganizationService implements CreateOrganizationUseCase {
 
     private final OrganizationRepository organizationRepository;
+    private final PlatformMetricsService platformMetricsService;
 
     @Override
     public Organization execute(CreateOrganizationCommand command) {
@@ -38,6 +39,7 @@ public class OrganizationService implements CreateOrganizationUseCase {
                 .build();
 
         Organization saved = organizationRepository.save(org);
+        platformMetricsService.recordOrganizationCreated();
         log.info("Organización creada: {}", saved.getId());
 
         return saved;
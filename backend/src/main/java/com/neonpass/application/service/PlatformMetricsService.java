@@ -0,0 +1,471 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.model.enums.EventStatus;
+import com.neonpass.domain.model.enums.UserRole;
+import com.neonpass.domain.port.out.*;
+import com.neonpass.domain.port.out.OrderRepository.OrderSale;
+import com.neonpass.domain.port.out.OrderRepository.OrderTotals;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Métricas de la plataforma mantenidas en memoria.
+ *
+ * <p>
+ * Los totales (usuarios por rol, eventos por estado, organizaciones, venues,
+ * órdenes, tickets, recaudación y comisiones) se actualizan al confirmar cada
+ * transacción que los cambia, así que leerlos no consulta la base de datos.
+ * Cada {@code metrics.reconcile-seconds} se recalculan con consultas de
+ * agregación para corregir la deriva (cambios de otros nodos o fuera de los
+ * servicios). Los cambios confirmados mientras corren esas consultas se
+ * anotan y se reaplican sobre el resultado antes de publicarlo, así que la
+ * reconciliación no pierde ventas ni altas.
+ * </p>
+ *
+ * <p>
+ * Las ventas se acumulan además en buckets por minuto, hora y día, por evento
+ * y para toda la plataforma. Al arrancar se cargan desde las órdenes dentro
+ * de la retención de cada granularidad; después solo se alimentan con las
+ * ventas de este nodo. Las ventas confirmadas antes de terminar la carga se
+ * retienen y se agregan después, omitiendo las que la carga ya incluyó.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlatformMetricsService {
+
+    /** Clave de la serie de ventas de toda la plataforma */
+    private static final UUID PLATFORM = new UUID(0, 0);
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final OrganizationRepository organizationRepository;
+    private final VenueRepository venueRepository;
+    private final OrderRepository orderRepository;
+    private final TicketRepository ticketRepository;
+
+    @Value("${metrics.reconcile-seconds:300}")
+    private long reconcileSeconds;
+
+    @Value("${metrics.minute-retention-hours:24}")
+    private long minuteRetentionHours;
+
+    @Value("${metrics.hour-retention-days:14}")
+    private long hourRetentionDays;
+
+    @Value("${metrics.day-retention-days:90}")
+    private long dayRetentionDays;
+
+    private volatile Totals totals = new Totals();
+    private final ConcurrentHashMap<UUID, SalesSeries> series = new ConcurrentHashMap<>();
+
+    /** Ventas confirmadas antes de terminar la carga inicial; null después */
+    private List<OrderSale> pendingSales = new ArrayList<>();
+    private final Object seedLock = new Object();
+
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "platform-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+    }
+
+    /**
+     * Totales de la plataforma en un instante.
+     */
+    public record PlatformTotals(
+            long users,
+            Map<UserRole, Long> usersByRole,
+            long events,
+            Map<EventStatus, Long> eventsByStatus,
+            long organizations,
+            long venues,
+            long orders,
+            long tickets,
+            BigDecimal revenue,
+            BigDecimal platformFees) {
+    }
+
+    /**
+     * Ventas de un bucket que empieza en {@code start}.
+     */
+    public record SalesBucket(
+            LocalDateTime start,
+            long orders,
+            long tickets,
+            BigDecimal revenue,
+            BigDecimal platformFees) {
+    }
+
+    /**
+     * Arranca tras los {@code CommandLineRunner} para que la primera carga
+     * incluya los datos sembrados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        reconciler.execute(this::seedSales);
+        reconciler.scheduleAtFixedRate(this::reconcile, 0, reconcileSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * Totales actuales, sin consultar la base de datos salvo antes de la
+     * primera reconciliación.
+     */
+    public PlatformTotals getTotals() {
+        if (!totals.reconciled) {
+            reconcile();
+        }
+        return totals.snapshot();
+    }
+
+    /**
+     * Serie de ventas de un evento, o de toda la plataforma si {@code eventId}
+     * es null. Los buckets sin ventas se omiten.
+     */
+    public List<SalesBucket> getSales(UUID eventId, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        SalesSeries sales = series.get(eventId != null ? eventId : PLATFORM);
+        if (sales == null) {
+            return List.of();
+        }
+
+        List<SalesBucket> buckets = new ArrayList<>();
+        sales.buckets(granularity)
+                .subMap(granularity.truncate(from), true, to, true)
+                .forEach((start, bucket) -> buckets.add(bucket.snapshot(start)));
+        return buckets;
+    }
+
+    /**
+     * Registra una orden pagada al confirmar la transacción.
+     */
+    public void recordOrder(UUID orderId, UUID eventId, LocalDateTime createdAt, BigDecimal totalAmount,
+            BigDecimal platformFee, int tickets) {
+        OrderSale sale = new OrderSale(orderId, eventId, createdAt,
+                totalAmount != null ? totalAmount : BigDecimal.ZERO,
+                platformFee != null ? platformFee : BigDecimal.ZERO,
+                tickets);
+        AfterCommit.run(() -> {
+            applyDelta(t -> t.addOrder(sale));
+            recordSale(sale);
+        });
+    }
+
+    public void recordUserCreated(UserRole role) {
+        AfterCommit.run(() -> applyDelta(t -> t.addUser(role, 1)));
+    }
+
+    public void recordUserRemoved(UserRole role) {
+        AfterCommit.run(() -> applyDelta(t -> t.addUser(role, -1)));
+    }
+
+    public void recordRoleChange(UserRole from, UserRole to) {
+        if (from == to) {
+            return;
+        }
+        AfterCommit.run(() -> applyDelta(t -> {
+            t.addUser(from, -1);
+            t.addUser(to, 1);
+        }));
+    }
+
+    public void recordEventCreated(EventStatus status) {
+        AfterCommit.run(() -> applyDelta(t -> t.addEvent(status, 1)));
+    }
+
+    public void recordEventStatusChange(EventStatus from, EventStatus to) {
+        if (from == to) {
+            return;
+        }
+        AfterCommit.run(() -> applyDelta(t -> {
+            t.addEvent(from, -1);
+            t.addEvent(to, 1);
+        }));
+    }
+
+    public void recordOrganizationCreated() {
+        AfterCommit.run(() -> applyDelta(Totals::addOrganization));
+    }
+
+    public void recordVenueCreated() {
+        AfterCommit.run(() -> applyDelta(Totals::addVenue));
+    }
+
+    /**
+     * Recalcula los totales con consultas de agregación y descarta los
+     * buckets fuera de retención.
+     *
+     * <p>
+     * Antes de consultar se abre un diario en los totales vigentes; los
+     * cambios confirmados desde entonces se reaplican sobre el resultado y
+     * el reemplazo se hace con el lock de los totales anteriores, de modo que
+     * ningún cambio cae entre ambas instancias. Un cambio confirmado justo
+     * antes de que su consulta lo lea puede contarse dos veces hasta la
+     * siguiente reconciliación, nunca perderse.
+     * </p>
+     */
+    synchronized void reconcile() {
+        Totals current = totals;
+        current.startJournal();
+        try {
+            OrderTotals orders = orderRepository.sumTotals();
+            Totals fresh = new Totals();
+            fresh.usersByRole.putAll(userRepository.countByRole());
+            fresh.eventsByStatus.putAll(eventRepository.countByStatus());
+            fresh.organizations = organizationRepository.count();
+            fresh.venues = venueRepository.count();
+            fresh.orders = orders.orders();
+            fresh.tickets = ticketRepository.count();
+            fresh.revenue = orders.totalAmount();
+            fresh.platformFees = orders.platformFee();
+            fresh.reconciled = true;
+            synchronized (current) {
+                current.journal.forEach(delta -> delta.accept(fresh));
+                current.replacedBy = fresh;
+                totals = fresh;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (SalesSeries sales : series.values()) {
+                sales.prune(Granularity.MINUTE, now.minusHours(minuteRetentionHours));
+                sales.prune(Granularity.HOUR, now.minusDays(hourRetentionDays));
+                sales.prune(Granularity.DAY, now.minusDays(dayRetentionDays));
+            }
+        } catch (RuntimeException e) {
+            current.stopJournal();
+            log.warn("No se pudieron reconciliar las métricas de la plataforma: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica un cambio a los totales vigentes. Si la reconciliación los
+     * reemplazó mientras se esperaba el lock, el cambio va a los nuevos.
+     */
+    private void applyDelta(Consumer<Totals> delta) {
+        Totals target = totals;
+        while (true) {
+            synchronized (target) {
+                if (target.replacedBy == null) {
+                    delta.accept(target);
+                    if (target.journal != null) {
+                        target.journal.add(delta);
+                    }
+                    return;
+                }
+                target = target.replacedBy;
+            }
+        }
+    }
+
+    private void seedSales() {
+        List<OrderSale> sales = List.of();
+        try {
+            LocalDateTime since = Granularity.DAY.truncate(LocalDateTime.now().minusDays(dayRetentionDays));
+            sales = orderRepository.findSalesSince(since);
+            sales.forEach(this::addSale);
+            log.info("Series de ventas cargadas con {} órdenes desde {}", sales.size(), since);
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron cargar las series de ventas: {}", e.getMessage());
+        }
+
+        Set<UUID> seeded = new HashSet<>();
+        sales.forEach(sale -> seeded.add(sale.orderId()));
+        synchronized (seedLock) {
+            pendingSales.stream()
+                    .filter(sale -> !seeded.contains(sale.orderId()))
+                    .forEach(this::addSale);
+            pendingSales = null;
+        }
+    }
+
+    /**
+     * Agrega una venta a las series, o la retiene si la carga inicial aún no
+     * terminó (la consulta podría incluirla y contarse dos veces).
+     */
+    private void recordSale(OrderSale sale) {
+        synchronized (seedLock) {
+            if (pendingSales != null) {
+                pendingSales.add(sale);
+                return;
+            }
+        }
+        addSale(sale);
+    }
+
+    private void addSale(OrderSale sale) {
+        if (sale.createdAt() == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean minute = !sale.createdAt().isBefore(now.minusHours(minuteRetentionHours));
+        boolean hour = !sale.createdAt().isBefore(now.minusDays(hourRetentionDays));
+
+        List<UUID> keys = sale.eventId() != null ? List.of(PLATFORM, sale.eventId()) : List.of(PLATFORM);
+        for (UUID key : keys) {
+            SalesSeries sales = series.computeIfAbsent(key, id -> new SalesSeries());
+            if (minute) {
+                sales.add(Granularity.MINUTE, sale);
+            }
+            if (hour) {
+                sales.add(Granularity.HOUR, sale);
+            }
+            sales.add(Granularity.DAY, sale);
+        }
+    }
+
+    /**
+     * Totales acumulados. Todas las operaciones toman el lock del objeto; la
+     * reconciliación reemplaza la instancia completa y deja en
+     * {@code replacedBy} la que la sustituye.
+     */
+    private static final class Totals {
+
+        /** Cambios aplicados durante una reconciliación en curso */
+        private List<Consumer<Totals>> journal;
+        private Totals replacedBy;
+
+        private final EnumMap<UserRole, Long> usersByRole = new EnumMap<>(UserRole.class);
+        private final EnumMap<EventStatus, Long> eventsByStatus = new EnumMap<>(EventStatus.class);
+        private long organizations;
+        private long venues;
+        private long orders;
+        private long tickets;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private BigDecimal platformFees = BigDecimal.ZERO;
+        private volatile boolean reconciled;
+
+        private synchronized void startJournal() {
+            journal = new ArrayList<>();
+        }
+
+        private synchronized void stopJournal() {
+            journal = null;
+        }
+
+        private synchronized void addOrder(OrderSale sale) {
+            orders++;
+            tickets += sale.tickets();
+            revenue = revenue.add(sale.totalAmount());
+            platformFees = platformFees.add(sale.platformFee());
+        }
+
+        private synchronized void addUser(UserRole role, long delta) {
+            if (role != null) {
+                usersByRole.merge(role, delta, Long::sum);
+            }
+        }
+
+        private synchronized void addEvent(EventStatus status, long delta) {
+            if (status != null) {
+                eventsByStatus.merge(status, delta, Long::sum);
+            }
+        }
+
+        private synchronized void addOrganization() {
+            organizations++;
+        }
+
+        private synchronized void addVenue() {
+            venues++;
+        }
+
+        private synchronized PlatformTotals snapshot() {
+            return new PlatformTotals(
+                    usersByRole.values().stream().mapToLong(Long::longValue).sum(),
+                    Map.copyOf(usersByRole),
+                    eventsByStatus.values().stream().mapToLong(Long::longValue).sum(),
+                    Map.copyOf(eventsByStatus),
+                    organizations,
+                    venues,
+                    orders,
+                    tickets,
+                    revenue,
+                    platformFees);
+        }
+    }
+
+    /**
+     * Buckets de ventas de un evento (o de la plataforma) por granularidad.
+     */
+    private static final class SalesSeries {
+
+        private final EnumMap<Granularity, ConcurrentSkipListMap<LocalDateTime, Bucket>> buckets =
+                new EnumMap<>(Granularity.class);
+
+        private SalesSeries() {
+            for (Granularity granularity : Granularity.values()) {
+                buckets.put(granularity, new ConcurrentSkipListMap<>());
+            }
+        }
+
+        private ConcurrentSkipListMap<LocalDateTime, Bucket> buckets(Granularity granularity) {
+            return buckets.get(granularity);
+        }
+
+        private void add(Granularity granularity, OrderSale sale) {
+            buckets.get(granularity)
+                    .computeIfAbsent(granularity.truncate(sale.createdAt()), start -> new Bucket())
+                    .add(sale);
+        }
+
+        private void prune(Granularity granularity, LocalDateTime before) {
+            buckets.get(granularity).headMap(granularity.truncate(before)).clear();
+        }
+    }
+
+    private static final class Bucket {
+
+        private long orders;
+        private long tickets;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private BigDecimal platformFees = BigDecimal.ZERO;
+
+        private synchronized void add(OrderSale sale) {
+            orders++;
+            tickets += sale.tickets();
+            revenue = revenue.add(sale.totalAmount());
+            platformFees = platformFees.add(sale.platformFee());
+        }
+
+        private synchronized SalesBucket snapshot(LocalDateTime start) {
+            return new SalesBucket(start, orders, tickets, revenue, platformFees);
+        }
+    }
+}
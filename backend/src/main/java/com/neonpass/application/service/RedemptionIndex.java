@@ -0,0 +1,181 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.port.out.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tickets canjeados por evento, en memoria.
+ *
+ * <p>
+ * Permite rechazar un ticket ya usado (reintentos, capturas de pantalla
+ * reenviadas) sin consultar la base de datos. El conjunto de un evento se
+ * carga con su primer escaneo o al exportar el bundle offline, antes de
+ * abrir puertas, y se alimenta con cada canje confirmado.
+ * </p>
+ *
+ * <p>
+ * Solo sirve para rechazar: que un ticket no esté en el conjunto no lo
+ * valida, porque puede haberse canjeado en otro nodo. Ese caso lo resuelve
+ * el canje condicional en la base de datos, y el ticket se agrega al
+ * conjunto en cuanto se detecta. Los eventos sin escaneos durante
+ * {@code redemption-index.idle-hours} se descartan.
+ * </p>
+ *
+ * <p>
+ * La carga de un evento corre fuera del mapa, en el hilo que la inicia;
+ * mientras tanto los demás escaneos del evento no esperan: el índice
+ * responde "no consta" y decide la base de datos. Los canjes confirmados
+ * durante la carga se aplican en cuanto termina.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedemptionIndex {
+
+    private final TicketRepository ticketRepository;
+
+    @Value("${redemption-index.idle-hours:12}")
+    private long idleHours;
+
+    private static final class EventRedemptions {
+
+        private final Set<UUID> ticketIds = ConcurrentHashMap.newKeySet();
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+    }
+
+    private final ConcurrentHashMap<UUID, CompletableFuture<EventRedemptions>> events = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redemption-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        cleaner.scheduleAtFixedRate(this::evictIdle, 1, 1, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    void stop() {
+        cleaner.shutdownNow();
+    }
+
+    /**
+     * Carga (o completa) el conjunto del evento con los tickets ya usados.
+     */
+    public void warm(UUID eventId) {
+        CompletableFuture<EventRedemptions> current = events.get(eventId);
+        if (current == null) {
+            CompletableFuture<EventRedemptions> loading = new CompletableFuture<>();
+            if (events.putIfAbsent(eventId, loading) == null) {
+                load(eventId, loading);
+                return;
+            }
+            current = events.get(eventId);
+        }
+
+        EventRedemptions redemptions = current != null ? completed(current) : null;
+        if (redemptions != null) {
+            redemptions.ticketIds.addAll(ticketRepository.findIdsByEventIdAndStatus(eventId, TicketStatus.USED));
+            redemptions.touch();
+            log.info("Canjes del evento {} en memoria: {}", eventId, redemptions.ticketIds.size());
+        }
+    }
+
+    /**
+     * Indica si el ticket consta como canjeado. El primer escaneo del evento
+     * en este nodo lo carga; mientras otro hilo lo carga devuelve false.
+     */
+    public boolean isRedeemed(UUID eventId, UUID ticketId) {
+        CompletableFuture<EventRedemptions> current = events.get(eventId);
+        if (current == null) {
+            CompletableFuture<EventRedemptions> loading = new CompletableFuture<>();
+            current = events.putIfAbsent(eventId, loading);
+            if (current == null) {
+                current = loading;
+                load(eventId, loading);
+            }
+        }
+
+        EventRedemptions redemptions = completed(current);
+        if (redemptions == null) {
+            return false;
+        }
+        redemptions.touch();
+        return redemptions.ticketIds.contains(ticketId);
+    }
+
+    /**
+     * Agrega tickets canjeados al confirmar la transacción. Si el evento no
+     * está cargado no hace nada: la carga los leerá de la base de datos.
+     */
+    public void markRedeemed(UUID eventId, Collection<UUID> ticketIds) {
+        if (eventId == null || ticketIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> remember(eventId, ticketIds));
+    }
+
+    /**
+     * Agrega tickets que la base de datos ya tiene como usados (canjeados en
+     * otro nodo o en una transacción anterior). Si el evento se está
+     * cargando se agregan al terminar la carga.
+     */
+    public void remember(UUID eventId, Collection<UUID> ticketIds) {
+        CompletableFuture<EventRedemptions> current = eventId != null ? events.get(eventId) : null;
+        if (current != null && !ticketIds.isEmpty()) {
+            List<UUID> ids = List.copyOf(ticketIds);
+            current.thenAccept(redemptions -> redemptions.ticketIds.addAll(ids));
+        }
+    }
+
+    private void load(UUID eventId, CompletableFuture<EventRedemptions> loading) {
+        try {
+            EventRedemptions redemptions = new EventRedemptions();
+            redemptions.ticketIds.addAll(ticketRepository.findIdsByEventIdAndStatus(eventId, TicketStatus.USED));
+            log.info("Canjes del evento {} en memoria: {}", eventId, redemptions.ticketIds.size());
+            loading.complete(redemptions);
+        } catch (RuntimeException e) {
+            events.remove(eventId, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return el conjunto si ya terminó de cargarse, o null
+     */
+    private static EventRedemptions completed(CompletableFuture<EventRedemptions> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(idleHours);
+        events.values().removeIf(future -> {
+            EventRedemptions redemptions = completed(future);
+            return redemptions != null && redemptions.lastAccess < cutoff;
+        });
+    }
+}
@@ -0,0 +1,569 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.exception.EventNotFoundException;
+import com.neonpass.domain.exception.VenueNotFoundException;
+import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.Seat;
+import com.neonpass.domain.model.Section;
+import com.neonpass.domain.model.Venue;
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.port.out.*;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Índice en memoria de disponibilidad de asientos por evento.
+ *
+ * <p>
+ * Cada evento se carga una vez (venue, secciones, asientos, vendidos y
+ * bloqueados) y se asigna un ordinal denso a cada asiento, contiguo por
+ * sección y, dentro de ella, por fila. La disponibilidad se guarda en dos
+ * bitsets (vendidos y bloqueados) que actualizan checkout, reserva y
+ * liberación, de modo que leer el mapa no consulta tickets en la base de
+ * datos y buscar asientos contiguos es un recorrido por los bits de una fila.
+ * </p>
+ *
+ * <p>
+ * Las entradas se recargan tras {@code seat-availability.max-age-seconds}
+ * para recoger cambios hechos por otros nodos y reservas expiradas. La carga
+ * corre fuera del mapa: quien la inicia publica un future y los demás
+ * lectores del mismo evento lo esperan, sin bloquear a otros eventos. Las
+ * entradas vencidas que nadie volvió a leer se descartan periódicamente.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatAvailabilityIndex {
+
+    public static final String AVAILABLE = "AVAILABLE";
+    public static final String RESERVED = "RESERVED";
+    public static final String SOLD = "SOLD";
+
+    private static final List<TicketStatus> SOLD_STATUSES = List.of(TicketStatus.VALID, TicketStatus.USED);
+
+    private final EventRepository eventRepository;
+    private final VenueRepository venueRepository;
+    private final SectionRepository sectionRepository;
+    private final SeatRepository seatRepository;
+    private final TicketRepository ticketRepository;
+    private final SeatLock seatLock;
+    private final SeatDeltaFeed seatDeltaFeed;
+
+    @Value("${seat-availability.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    private final ConcurrentHashMap<UUID, CompletableFuture<EventSeating>> events = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-availability");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        long period = Math.max(maxAgeSeconds, 1);
+        cleaner.scheduleAtFixedRate(this::evictStale, period, period, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        cleaner.shutdownNow();
+    }
+
+    /**
+     * Obtiene la disponibilidad de un evento, cargándola si no está en el
+     * índice o si está vencida.
+     */
+    public EventSeating getEventSeating(UUID eventId) {
+        while (true) {
+            CompletableFuture<EventSeating> current = events.get(eventId);
+            if (current == null) {
+                CompletableFuture<EventSeating> loading = new CompletableFuture<>();
+                if (events.putIfAbsent(eventId, loading) == null) {
+                    return load(eventId, loading);
+                }
+                continue;
+            }
+
+            EventSeating seating = await(current);
+            if (!seating.isStale(maxAgeSeconds)) {
+                return seating;
+            }
+            CompletableFuture<EventSeating> reloading = new CompletableFuture<>();
+            if (events.replace(eventId, current, reloading)) {
+                return load(eventId, reloading);
+            }
+        }
+    }
+
+    /**
+     * Marca asientos como bloqueados y publica el cambio. El índice no se
+     * modifica si el evento no está cargado.
+     */
+    public void markHeld(UUID eventId, Collection<UUID> seatIds) {
+        EventSeating seating = loaded(eventId);
+        if (seating != null) {
+            seatIds.forEach(seatId -> seating.markHeld(seatId));
+        }
+        seatDeltaFeed.publish(eventId, seatIds, RESERVED);
+    }
+
+    /**
+     * Quita el bloqueo de asientos y publica el cambio. El índice no se
+     * modifica si el evento no está cargado.
+     */
+    public void markReleased(UUID eventId, Collection<UUID> seatIds) {
+        EventSeating seating = loaded(eventId);
+        if (seating != null) {
+            seatIds.forEach(seatId -> seating.markReleased(seatId));
+        }
+        seatDeltaFeed.publish(eventId, seatIds, AVAILABLE);
+    }
+
+    /**
+     * Marca asientos como vendidos y publica el cambio una vez confirmada la
+     * transacción actual.
+     */
+    public void markSold(UUID eventId, Collection<UUID> seatIds) {
+        List<UUID> sold = List.copyOf(seatIds);
+        AfterCommit.run(() -> {
+            EventSeating seating = loaded(eventId);
+            if (seating != null) {
+                sold.forEach(seatId -> seating.markSold(seatId));
+            }
+            seatDeltaFeed.publish(eventId, sold, SOLD);
+        });
+    }
+
+    /**
+     * Marca asientos como no disponibles sin publicar cambios, tras un
+     * conflicto al bloquearlos (bloqueos tomados en otro nodo). La próxima
+     * recarga del evento restablece el estado real.
+     */
+    void markUnavailable(UUID eventId, Collection<UUID> seatIds) {
+        EventSeating seating = loaded(eventId);
+        if (seating != null) {
+            seatIds.forEach(seatId -> seating.markHeld(seatId));
+        }
+    }
+
+    /**
+     * Descarta un evento del índice.
+     */
+    public void invalidate(UUID eventId) {
+        events.remove(eventId);
+    }
+
+    /**
+     * Descarta todos los eventos de un venue (cambios de layout, secciones o
+     * asientos).
+     */
+    public void invalidateVenue(UUID venueId) {
+        // Las cargas en curso también se descartan: pueden haber leído el
+        // layout anterior
+        AfterCommit.run(() -> events.values().removeIf(future -> {
+            EventSeating seating = completed(future);
+            return seating == null || seating.getVenue().getId().equals(venueId);
+        }));
+    }
+
+    /**
+     * Carga el evento y completa el future publicado en el mapa. Si la carga
+     * falla se retira el future para que el siguiente lector reintente.
+     */
+    private EventSeating load(UUID eventId, CompletableFuture<EventSeating> loading) {
+        try {
+            EventSeating seating = load(eventId);
+            loading.complete(seating);
+            return seating;
+        } catch (RuntimeException e) {
+            events.remove(eventId, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private EventSeating await(CompletableFuture<EventSeating> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return la disponibilidad del evento si ya terminó de cargarse, o null
+     */
+    private EventSeating loaded(UUID eventId) {
+        CompletableFuture<EventSeating> future = events.get(eventId);
+        return future != null ? completed(future) : null;
+    }
+
+    private static EventSeating completed(CompletableFuture<EventSeating> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private void evictStale() {
+        events.values().removeIf(future -> {
+            EventSeating seating = completed(future);
+            return seating != null && seating.isStale(maxAgeSeconds);
+        });
+    }
+
+    private EventSeating load(UUID eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        Venue venue = venueRepository.findById(event.getVenueId())
+                .orElseThrow(() -> new VenueNotFoundException(event.getVenueId()));
+
+        List<Section> sections = sectionRepository.findByVenueId(venue.getId());
+
+        Map<UUID, List<Seat>> seatsBySection = sections.isEmpty()
+                ? Map.of()
+                : seatRepository.findBySectionIdIn(sections.stream().map(Section::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(Seat::getSectionId));
+
+        EventSeating seating = new EventSeating(venue, sections, seatsBySection);
+
+        ticketRepository.findSeatIdsByEventIdAndStatusIn(eventId, SOLD_STATUSES)
+                .forEach(seating::markSold);
+        seatLock.findLockedSeatIds(eventId, seating.seatIds())
+                .forEach(seating::markHeld);
+
+        log.debug("Disponibilidad cargada para evento {}: {} asientos", eventId, seating.seatCount());
+        return seating;
+    }
+
+    /**
+     * Disponibilidad de un evento: asientos con ordinal denso y bitsets de
+     * vendidos y bloqueados.
+     *
+     * <p>
+     * Las filas de cada sección ocupan rangos contiguos de ordinales,
+     * ordenadas de adelante hacia atrás por {@code yPosition} (menor es más
+     * cerca del escenario) y luego por {@code rowLabel}. Dentro de la fila los
+     * asientos se ordenan por {@code xPosition} o {@code numberLabel}; un
+     * salto de posición mayor al habitual en la fila se considera pasillo y
+     * corta la contigüidad.
+     * </p>
+     */
+    public static final class EventSeating {
+
+        private final Venue venue;
+        private final List<Section> sections;
+        private final Seat[] seats;
+        private final Map<UUID, Integer> ordinals;
+        /** Rango [inicio, fin) de ordinales por sección */
+        private final Map<UUID, int[]> sectionRanges;
+        /** Rangos [inicio, fin) de cada fila por sección, de adelante hacia atrás */
+        private final Map<UUID, List<int[]>> sectionRows;
+        /** Asientos no contiguos al anterior (inicio de fila o pasillo) */
+        private final BitSet breakBefore;
+        private final BitSet accessible;
+        private final AtomicLongArray sold;
+        private final AtomicLongArray held;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private EventSeating(Venue venue, List<Section> sections, Map<UUID, List<Seat>> seatsBySection) {
+            this.venue = venue;
+            this.sections = List.copyOf(sections);
+
+            int total = seatsBySection.values().stream().mapToInt(List::size).sum();
+            this.seats = new Seat[total];
+            this.ordinals = new HashMap<>(total * 2);
+            this.sectionRanges = new HashMap<>();
+            this.sectionRows = new HashMap<>();
+            this.breakBefore = new BitSet(total);
+            this.accessible = new BitSet(total);
+
+            int ordinal = 0;
+            for (Section section : sections) {
+                int start = ordinal;
+                List<int[]> rows = new ArrayList<>();
+                for (List<Seat> row : toRows(seatsBySection.getOrDefault(section.getId(), List.of()))) {
+                    int rowStart = ordinal;
+                    for (Seat seat : row) {
+                        seats[ordinal] = seat;
+                        ordinals.put(seat.getId(), ordinal);
+                        if (Boolean.TRUE.equals(seat.getIsAccessible())) {
+                            accessible.set(ordinal);
+                        }
+                        ordinal++;
+                    }
+                    markAisles(row, rowStart);
+                    rows.add(new int[] { rowStart, ordinal });
+                }
+                sectionRanges.put(section.getId(), new int[] { start, ordinal });
+                sectionRows.put(section.getId(), rows);
+            }
+
+            int words = (total + 63) >>> 6;
+            this.sold = new AtomicLongArray(words);
+            this.held = new AtomicLongArray(words);
+        }
+
+        public Venue getVenue() {
+            return venue;
+        }
+
+        public List<Section> getSections() {
+            return sections;
+        }
+
+        /**
+         * Asientos de una sección, fila por fila.
+         */
+        public List<Seat> getSeats(UUID sectionId) {
+            int[] range = sectionRanges.get(sectionId);
+            return range == null ? List.of() : Arrays.asList(seats).subList(range[0], range[1]);
+        }
+
+        /**
+         * Estado de un asiento: {@link #SOLD}, {@link #RESERVED} o
+         * {@link #AVAILABLE}.
+         */
+        public String statusOf(UUID seatId) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal == null) {
+                return AVAILABLE;
+            }
+            if (isSet(sold, ordinal)) {
+                return SOLD;
+            }
+            return isSet(held, ordinal) ? RESERVED : AVAILABLE;
+        }
+
+        public int soldCount(UUID sectionId) {
+            int[] range = sectionRanges.get(sectionId);
+            return range == null ? 0 : count(sold, null, range[0], range[1]);
+        }
+
+        /**
+         * Asientos bloqueados y todavía no vendidos de una sección.
+         */
+        public int reservedCount(UUID sectionId) {
+            int[] range = sectionRanges.get(sectionId);
+            return range == null ? 0 : count(held, sold, range[0], range[1]);
+        }
+
+        public int totalSold() {
+            return count(sold, null, 0, seats.length);
+        }
+
+        public int totalReserved() {
+            return count(held, sold, 0, seats.length);
+        }
+
+        /**
+         * Busca {@code quantity} asientos libres y contiguos en una sección:
+         * la fila más adelantada que tenga hueco y, dentro de ella, el bloque
+         * más cercano al centro de la fila.
+         *
+         * @return asientos encontrados en orden de fila, o lista vacía si no
+         *         hay un bloque libre de ese tamaño
+         */
+        public List<UUID> findBestSeats(UUID sectionId, int quantity, boolean accessibleOnly) {
+            for (int[] row : sectionRows.getOrDefault(sectionId, List.of())) {
+                int start = bestRunInRow(row[0], row[1], quantity, accessibleOnly);
+                if (start >= 0) {
+                    List<UUID> seatIds = new ArrayList<>(quantity);
+                    for (int i = start; i < start + quantity; i++) {
+                        seatIds.add(seats[i].getId());
+                    }
+                    return seatIds;
+                }
+            }
+            return List.of();
+        }
+
+        /**
+         * @return ordinal inicial del bloque libre más centrado de la fila, o
+         *         -1 si no hay ninguno
+         */
+        private int bestRunInRow(int rowStart, int rowEnd, int quantity, boolean accessibleOnly) {
+            double center = (rowStart + rowEnd - 1) / 2.0;
+            int best = -1;
+            double bestDistance = Double.MAX_VALUE;
+
+            int runStart = -1;
+            for (int i = rowStart; i <= rowEnd; i++) {
+                boolean free = i < rowEnd && isFree(i, accessibleOnly);
+                boolean aisle = i < rowEnd && breakBefore.get(i);
+
+                // Un asiento ocupado, un pasillo o el fin de la fila cierran
+                // el bloque libre [runStart, i)
+                if (runStart >= 0 && (!free || aisle)) {
+                    if (i - runStart >= quantity) {
+                        int candidate = (int) Math.round(center - (quantity - 1) / 2.0);
+                        candidate = Math.max(runStart, Math.min(candidate, i - quantity));
+                        double distance = Math.abs(candidate + (quantity - 1) / 2.0 - center);
+                        if (distance < bestDistance) {
+                            best = candidate;
+                            bestDistance = distance;
+                        }
+                    }
+                    runStart = -1;
+                }
+                if (free && runStart < 0) {
+                    runStart = i;
+                }
+            }
+            return best;
+        }
+
+        private boolean isFree(int ordinal, boolean accessibleOnly) {
+            return !isSet(sold, ordinal) && !isSet(held, ordinal)
+                    && (!accessibleOnly || accessible.get(ordinal));
+        }
+
+        private void markAisles(List<Seat> row, int rowStart) {
+            breakBefore.set(rowStart);
+            if (row.size() < 3 || row.stream().anyMatch(seat -> seat.getXPosition() == null)) {
+                return;
+            }
+
+            int[] gaps = new int[row.size() - 1];
+            for (int i = 1; i < row.size(); i++) {
+                gaps[i - 1] = Math.abs(row.get(i).getXPosition() - row.get(i - 1).getXPosition());
+            }
+            int usualGap = Arrays.stream(gaps).sorted().toArray()[gaps.length / 2];
+            for (int i = 0; i < gaps.length; i++) {
+                if (usualGap > 0 && gaps[i] * 2 > usualGap * 3) {
+                    breakBefore.set(rowStart + i + 1);
+                }
+            }
+        }
+
+        private static List<List<Seat>> toRows(List<Seat> seats) {
+            Map<String, List<Seat>> byRow = seats.stream()
+                    .collect(Collectors.groupingBy(seat -> seat.getRowLabel() != null ? seat.getRowLabel() : ""));
+
+            boolean byPosition = seats.stream().allMatch(seat -> seat.getXPosition() != null);
+            Comparator<Seat> inRow = byPosition
+                    ? Comparator.comparing(Seat::getXPosition)
+                    : Comparator.comparing(Seat::getNumberLabel, EventSeating::compareLabels);
+            byRow.values().forEach(row -> row.sort(inRow));
+
+            Comparator<List<Seat>> frontToBack = Comparator
+                    .comparing((List<Seat> row) -> row.stream()
+                            .map(Seat::getYPosition)
+                            .filter(Objects::nonNull)
+                            .min(Integer::compare)
+                            .orElse(Integer.MAX_VALUE))
+                    .thenComparing(row -> row.get(0).getRowLabel(), EventSeating::compareLabels);
+
+            return byRow.values().stream().sorted(frontToBack).toList();
+        }
+
+        /**
+         * Compara etiquetas numéricamente cuando ambas son números ("2" antes
+         * que "10") y alfabéticamente en otro caso.
+         */
+        private static int compareLabels(String a, String b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : 1) : -1;
+            }
+            boolean numeric = !a.isEmpty() && !b.isEmpty()
+                    && a.chars().allMatch(Character::isDigit) && b.chars().allMatch(Character::isDigit);
+            if (numeric && a.length() != b.length()) {
+                return Integer.compare(a.length(), b.length());
+            }
+            return a.compareTo(b);
+        }
+
+        int seatCount() {
+            return seats.length;
+        }
+
+        List<UUID> seatIds() {
+            return Arrays.stream(seats).map(Seat::getId).toList();
+        }
+
+        boolean isStale(long maxAgeSeconds) {
+            return System.currentTimeMillis() - loadedAt > maxAgeSeconds * 1000;
+        }
+
+        void markHeld(UUID seatId) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal != null) {
+                set(held, ordinal);
+            }
+        }
+
+        void markReleased(UUID seatId) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal != null) {
+                clear(held, ordinal);
+            }
+        }
+
+        void markSold(UUID seatId) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal != null) {
+                set(sold, ordinal);
+                clear(held, ordinal);
+            }
+        }
+
+        private static boolean isSet(AtomicLongArray bits, int ordinal) {
+            return (bits.get(ordinal >>> 6) & (1L << ordinal)) != 0;
+        }
+
+        private static void set(AtomicLongArray bits, int ordinal) {
+            bits.getAndAccumulate(ordinal >>> 6, 1L << ordinal, (word, mask) -> word | mask);
+        }
+
+        private static void clear(AtomicLongArray bits, int ordinal) {
+            bits.getAndAccumulate(ordinal >>> 6, ~(1L << ordinal), (word, mask) -> word & mask);
+        }
+
+        /**
+         * Cuenta los bits en [from, to) de {@code bits}, excluyendo los
+         * presentes en {@code exclude} si no es null. Una operación por
+         * palabra de 64 asientos.
+         */
+        private static int count(AtomicLongArray bits, AtomicLongArray exclude, int from, int to) {
+            if (from >= to) {
+                return 0;
+            }
+
+            int firstWord = from >>> 6;
+            int lastWord = (to - 1) >>> 6;
+            int total = 0;
+            for (int w = firstWord; w <= lastWord; w++) {
+                long word = bits.get(w);
+                if (exclude != null) {
+                    word &= ~exclude.get(w);
+                }
+                if (w == firstWord) {
+                    word &= -1L << from;
+                }
+                if (w == lastWord) {
+                    word &= -1L >>> (63 - ((to - 1) & 63));
+                }
+                total += Long.bitCount(word);
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.neonpass.application.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Feed de cambios de estado de asientos por evento.
+ *
+ * <p>
+ * Los cambios se acumulan y se emiten en frames cada
+ * {@code seat-delta.flush-interval-ms}; si un asiento cambia varias veces
+ * dentro del intervalo solo se emite su último estado. Cada frame lleva un
+ * número de secuencia creciente por evento y los últimos
+ * {@code seat-delta.history-size} frames se conservan para que un cliente
+ * pueda reanudar desde la última secuencia recibida.
+ * </p>
+ *
+ * <p>
+ * El canal de un evento sin cambios pendientes ni actividad durante
+ * {@code seat-delta.channel-idle-seconds} se descarta junto con su historial.
+ * Si el evento vuelve a cambiar, su canal nuevo numera a partir de la mayor
+ * secuencia descartada: las secuencias nunca retroceden y un cliente que
+ * reanuda desde una anterior recibe vacío y recarga el mapa.
+ * </p>
+ */
+@Slf4j
+@Service
+public class SeatDeltaFeed {
+
+    /**
+     * Cambio de estado de un asiento.
+     */
+    public record SeatDelta(UUID seatId, String status) {
+    }
+
+    /**
+     * Cambios acumulados de un evento durante un intervalo.
+     */
+    public record SeatDeltaFrame(UUID eventId, long sequence, List<SeatDelta> seats) {
+    }
+
+    @Value("${seat-delta.flush-interval-ms:250}")
+    private long flushIntervalMs;
+
+    @Value("${seat-delta.history-size:256}")
+    private int historySize;
+
+    @Value("${seat-delta.channel-idle-seconds:300}")
+    private long channelIdleSeconds;
+
+    private final ConcurrentHashMap<UUID, Channel> channels = new ConcurrentHashMap<>();
+    /** Mayor secuencia de los canales descartados */
+    private final AtomicLong retiredSequence = new AtomicLong();
+    private final List<Consumer<SeatDeltaFrame>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-delta-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void startFlusher() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopFlusher() {
+        flusher.shutdownNow();
+    }
+
+    /**
+     * Registra un cambio de estado. Se emite en el próximo frame del evento.
+     */
+    public void publish(UUID eventId, Collection<UUID> seatIds, String status) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+
+        while (true) {
+            Channel channel = channels.computeIfAbsent(eventId, id -> new Channel(retiredSequence.get()));
+            synchronized (channel) {
+                // El flusher pudo descartarlo entre el get y el lock
+                if (channel.retired) {
+                    continue;
+                }
+                seatIds.forEach(seatId -> channel.pending.put(seatId, status));
+                channel.lastActivity = System.nanoTime();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Registra un listener que recibe cada frame emitido, en orden de
+     * secuencia por evento, desde el hilo del feed.
+     */
+    public void addListener(Consumer<SeatDeltaFrame> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Secuencia del último frame del evento ya entregado a los listeners (o
+     * desde la que numerará su canal si no tiene uno). Un cliente que lee el
+     * estado completo puede reanudar desde aquí.
+     */
+    public long currentSequence(UUID eventId) {
+        Channel channel = channels.get(eventId);
+        if (channel == null) {
+            return retiredSequence.get();
+        }
+        synchronized (channel) {
+            return channel.delivered;
+        }
+    }
+
+    /**
+     * Frames con secuencia mayor a {@code afterSequence} y hasta
+     * {@code upToSequence} inclusive.
+     *
+     * @return vacío si alguno de esos frames ya salió del historial y el
+     *         cliente debe recargar el mapa completo
+     */
+    public Optional<List<SeatDeltaFrame>> framesBetween(UUID eventId, long afterSequence, long upToSequence) {
+        if (afterSequence >= upToSequence) {
+            return Optional.of(List.of());
+        }
+
+        Channel channel = channels.get(eventId);
+        if (channel == null) {
+            return Optional.empty();
+        }
+
+        synchronized (channel) {
+            List<SeatDeltaFrame> frames = channel.history.stream()
+                    .filter(frame -> frame.sequence() > afterSequence && frame.sequence() <= upToSequence)
+                    .toList();
+            return frames.size() == upToSequence - afterSequence ? Optional.of(frames) : Optional.empty();
+        }
+    }
+
+    private void flush() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.SECONDS.toNanos(channelIdleSeconds);
+
+        channels.forEach((eventId, channel) -> {
+            SeatDeltaFrame frame;
+            synchronized (channel) {
+                if (channel.pending.isEmpty()) {
+                    if (now - channel.lastActivity > idleNanos) {
+                        retire(eventId, channel);
+                    }
+                    return;
+                }
+
+                List<SeatDelta> seats = new ArrayList<>(channel.pending.size());
+                channel.pending.forEach((seatId, status) -> seats.add(new SeatDelta(seatId, status)));
+                channel.pending.clear();
+
+                frame = new SeatDeltaFrame(eventId, ++channel.sequence, List.copyOf(seats));
+                channel.history.addLast(frame);
+                while (channel.history.size() > historySize) {
+                    channel.history.removeFirst();
+                }
+            }
+
+            for (Consumer<SeatDeltaFrame> listener : listeners) {
+                try {
+                    listener.accept(frame);
+                } catch (RuntimeException e) {
+                    log.warn("Error entregando frame {} del evento {}", frame.sequence(), eventId, e);
+                }
+            }
+
+            synchronized (channel) {
+                channel.delivered = frame.sequence();
+            }
+        });
+    }
+
+    /**
+     * Descarta un canal sin cambios pendientes. Se llama desde el flusher con
+     * el lock del canal, así que todos sus frames ya se entregaron.
+     */
+    private void retire(UUID eventId, Channel channel) {
+        // Antes de quitarlo del mapa, para que un canal nuevo del evento
+        // numere después del último frame de este
+        retiredSequence.accumulateAndGet(channel.sequence, Math::max);
+        channel.retired = true;
+        channels.remove(eventId, channel);
+        log.debug("Canal de asientos del evento {} descartado por inactividad", eventId);
+    }
+
+    private static final class Channel {
+        private final Map<UUID, String> pending = new LinkedHashMap<>();
+        private final ArrayDeque<SeatDeltaFrame> history = new ArrayDeque<>();
+        private long sequence;
+        private long delivered;
+        private long lastActivity = System.nanoTime();
+        private boolean retired;
+
+        private Channel(long sequence) {
+            this.sequence = sequence;
+            this.delivered = sequence;
+        }
+    }
+}
@@ -1,21 +1,31 @@
 package com.neonpass.application.service;
 
 import com.neonpass.domain.exception.EventNotFoundException;
+import com.neonpass.domain.exception.NoAdjacentSeatsException;
 import com.neonpass.domain.exception.SeatNotAvailableException;
 import com.neonpass.domain.exception.SeatNotFoundException;
+import com.neonpass.domain.exception.SeatsNotAvailableException;
+import com.neonpass.domain.model.Seat;
 import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.port.in.HoldBestSeatsUseCase;
 import com.neonpass.domain.port.in.ReleaseSeatUseCase;
 import com.neonpass.domain.port.in.ReserveSeatUseCase;
+import com.neonpass.domain.port.in.ReserveSeatsUseCase;
 import com.neonpass.domain.port.out.EventRepository;
+import com.neonpass.domain.port.out.SeatLock;
 import com.neonpass.domain.port.out.SeatRepository;
 import com.neonpass.domain.port.out.TicketRepository;
-import com.neonpass.infrastructure.adapter.out.redis.SeatLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Servicio para reserva de asientos con bloqueo distribuido.
@@ -23,15 +33,23 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class SeatReservationService implements ReserveSeatUseCase, ReleaseSeatUseCase {
+public class SeatReservationService
+        implements ReserveSeatUseCase, ReserveSeatsUseCase, HoldBestSeatsUseCase, ReleaseSeatUseCase {
 
-    private final SeatLockService seatLockService;
+    private final SeatLock seatLock;
     private final SeatRepository seatRepository;
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+
+    @Value("${rate-limit.seat-reservation.max-seats:10}")
+    private int maxSeatsPerReservation;
 
     private static final int LOCK_EXPIRES_SECONDS = 600; // 10 minutos
 
+    /** Intentos de bloqueo cuando otro comprador gana los asientos elegidos */
+    private static final int BEST_SEATS_ATTEMPTS = 3;
+
     @Override
     public ReservationResult execute(ReserveSeatCommand command) {
         log.info("Intentando reservar asiento {} para evento {} por usuario {}",
@@ -57,14 +75,14 @@ public class SeatReservationService implements ReserveSeatUseCase, ReleaseSeatUs
         }
 
         // Intentar bloquear en Redis
-        boolean locked = seatLockService.lockSeat(
+        boolean locked = seatLock.lockSeat(
                 command.eventId(),
                 command.seatId(),
                 command.userId());
 
         if (!locked) {
             // Ver quién lo tiene bloqueado
-            UUID lockedBy = seatLockService.getLockedBy(command.eventId(), command.seatId());
+            UUID lockedBy = seatLock.getLockedBy(command.eventId(), command.seatId());
 
             // Si el mismo usuario ya lo tiene, es exitoso
             if (command.userId().equals(lockedBy)) {
@@ -80,6 +98,8 @@ public class SeatReservationService implements ReserveSeatUseCase, ReleaseSeatUs
             throw new SeatNotAvailableException(command.seatId(), command.eventId());
         }
 
+        seatAvailabilityIndex.markHeld(command.eventId(), List.of(command.seatId()));
+
         return new ReservationResult(
                 command.eventId(),
                 command.seatId(),
@@ -89,14 +109,107 @@ public class SeatReservationService implements ReserveSeatUseCase, ReleaseSeatUs
                 LOCK_EXPIRES_SECONDS);
     }
 
+    @Override
+    public BatchReservationResult execute(ReserveSeatsCommand command) {
+        List<UUID> seatIds = new ArrayList<>(new LinkedHashSet<>(command.seatIds()));
+
+        log.info("Intentando reservar {} asientos para evento {} por usuario {}",
+                seatIds.size(), command.eventId(), command.userId());
+
+        if (seatIds.size() > maxSeatsPerReservation) {
+            throw new IllegalArgumentException(
+                    "No se pueden reservar más de " + maxSeatsPerReservation + " asientos a la vez");
+        }
+
+        // Verificar que el evento existe
+        eventRepository.findById(command.eventId())
+                .orElseThrow(() -> new EventNotFoundException(command.eventId()));
+
+        // Verificar que todos los asientos existen (una sola consulta)
+        Set<UUID> foundSeatIds = seatRepository.findAllById(seatIds).stream()
+                .map(Seat::getId)
+                .collect(Collectors.toSet());
+
+        for (UUID seatId : seatIds) {
+            if (!foundSeatIds.contains(seatId)) {
+                throw new SeatNotFoundException(seatId);
+            }
+        }
+
+        // Verificar que ninguno esté ya vendido (una sola consulta)
+        List<UUID> soldSeatIds = ticketRepository.findSeatIdsByEventIdAndSeatIdInAndStatusIn(
+                command.eventId(),
+                seatIds,
+                List.of(TicketStatus.VALID, TicketStatus.USED));
+
+        if (!soldSeatIds.isEmpty()) {
+            log.warn("{} asientos ya vendidos para evento {}", soldSeatIds.size(), command.eventId());
+            throw new SeatsNotAvailableException(soldSeatIds, command.eventId());
+        }
+
+        // Bloquear todos en Redis (todo o nada)
+        List<UUID> conflicts = seatLock.lockSeats(command.eventId(), seatIds, command.userId());
+
+        if (!conflicts.isEmpty()) {
+            throw new SeatsNotAvailableException(conflicts, command.eventId());
+        }
+
+        seatAvailabilityIndex.markHeld(command.eventId(), seatIds);
+
+        return new BatchReservationResult(
+                command.eventId(),
+                seatIds,
+                command.userId(),
+                true,
+                "Asientos reservados exitosamente",
+                LOCK_EXPIRES_SECONDS);
+    }
+
+    @Override
+    public BatchReservationResult execute(HoldBestSeatsCommand command) {
+        log.info("Buscando {} asientos contiguos en sección {} del evento {} para usuario {}",
+                command.quantity(), command.sectionId(), command.eventId(), command.userId());
+
+        if (command.quantity() > maxSeatsPerReservation) {
+            throw new IllegalArgumentException(
+                    "No se pueden reservar más de " + maxSeatsPerReservation + " asientos a la vez");
+        }
+
+        for (int attempt = 1; attempt <= BEST_SEATS_ATTEMPTS; attempt++) {
+            List<UUID> seatIds = seatAvailabilityIndex.getEventSeating(command.eventId())
+                    .findBestSeats(command.sectionId(), command.quantity(), command.accessibleOnly());
+
+            if (seatIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                return execute(new ReserveSeatsCommand(command.eventId(), seatIds, command.userId()));
+            } catch (SeatsNotAvailableException e) {
+                // Otro comprador (posiblemente en otro nodo) los tomó primero
+                log.debug("Conflicto en intento {} de mejores asientos: {}", attempt, e.getSeatIds());
+                seatAvailabilityIndex.markUnavailable(command.eventId(), e.getSeatIds());
+            }
+        }
+
+        throw new NoAdjacentSeatsException(command.sectionId(), command.quantity());
+    }
+
     @Override
     public boolean execute(ReleaseSeatCommand command) {
         log.info("Liberando reserva de asiento {} para evento {} por usuario {}",
                 command.seatId(), command.eventId(), command.userId());
 
-        return seatLockService.unlockSeat(
+        boolean released = seatLock.unlockSeat(
                 command.eventId(),
                 command.seatId(),
                 command.userId());
+
+        // Solo si se borró un bloqueo propio: un asiento vendido, ajeno o
+        // libre no debe anunciarse como disponible
+        if (released) {
+            seatAvailabilityIndex.markReleased(command.eventId(), List.of(command.seatId()));
+        }
+        return released;
     }
 }
@@ -3,13 +3,10 @@ package com.neonpass.application.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.neonpass.domain.exception.EventNotFoundException;
-import com.neonpass.domain.model.Event;
 import com.neonpass.domain.model.Section;
 import com.neonpass.domain.model.Seat;
 import com.neonpass.domain.model.Venue;
 import com.neonpass.domain.model.enums.SectionType;
-import com.neonpass.domain.model.enums.TicketStatus;
 import com.neonpass.domain.port.out.*;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.SeatResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.SeatingMapResponse;
@@ -32,8 +29,8 @@ public class SeatingMapService {
     private final VenueRepository venueRepository;
     private final SectionRepository sectionRepository;
     private final SeatRepository seatRepository;
-    private final EventRepository eventRepository;
-    private final TicketRepository ticketRepository;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final SeatDeltaFeed seatDeltaFeed;
     private final ObjectMapper objectMapper;
 
     /**
@@ -46,6 +43,7 @@ public class SeatingMapService {
 
         venue.setBaseLayoutJson(serializeToJson(layout));
         venueRepository.save(venue);
+        seatAvailabilityIndex.invalidateVenue(venueId);
         log.info("Layout saved for venue {}", venueId);
     }
 
@@ -61,55 +59,56 @@ public class SeatingMapService {
 
     /**
      * Obtiene el mapa de asientos para un evento con disponibilidad.
+     *
+     * <p>
+     * Se sirve desde {@link SeatAvailabilityIndex}; no recorre los tickets del
+     * evento en cada lectura.
+     * </p>
+     *
+     * <p>
+     * La secuencia se lee antes que el mapa: todo cambio posterior llega en
+     * un frame con secuencia mayor, así que el cliente puede suscribirse al
+     * stream con {@code Last-Event-ID} igual a ella sin perder cambios.
+     * </p>
      */
-    @Transactional(readOnly = true)
     public SeatingMapResponse getEventSeatingMap(UUID eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException(eventId));
-
-        Venue venue = venueRepository.findById(event.getVenueId())
-                .orElseThrow(() -> new RuntimeException("Venue not found"));
-
-        List<Section> sections = sectionRepository.findByVenueId(venue.getId());
-
-        // Obtener tickets vendidos/reservados para el evento
-        Set<UUID> soldSeatIds = ticketRepository.findByEventId(eventId).stream()
-                .filter(t -> t.getSeatId() != null)
-                .filter(t -> TicketStatus.VALID.equals(t.getStatus()) ||
-                        TicketStatus.USED.equals(t.getStatus()))
-                .map(t -> t.getSeatId())
-                .collect(Collectors.toSet());
+        long sequence = seatDeltaFeed.currentSequence(eventId);
+        SeatAvailabilityIndex.EventSeating seating = seatAvailabilityIndex.getEventSeating(eventId);
+        Venue venue = seating.getVenue();
+        List<Section> sections = seating.getSections();
 
         // Construir respuesta de secciones con asientos
         List<SeatingMapResponse.SectionWithSeatsResponse> sectionResponses = sections.stream()
-                .map(section -> buildSectionWithSeats(section, soldSeatIds))
+                .map(section -> buildSectionWithSeats(section, seating))
                 .collect(Collectors.toList());
 
         // Calcular resumen
         int totalCapacity = sections.stream()
                 .mapToInt(s -> s.getCapacity() != null ? s.getCapacity() : 0)
                 .sum();
-        int totalSold = soldSeatIds.size();
+        int totalSold = seating.totalSold();
+        int totalReserved = seating.totalReserved();
 
         return SeatingMapResponse.builder()
                 .eventId(eventId)
+                .sequence(sequence)
                 .venueId(venue.getId())
                 .venueName(venue.getName())
                 .venueLayout(parseFromJson(venue.getBaseLayoutJson()))
                 .sections(sectionResponses)
                 .summary(SeatingMapResponse.AvailabilitySummary.builder()
                         .totalCapacity(totalCapacity)
-                        .totalAvailable(totalCapacity - totalSold)
+                        .totalAvailable(totalCapacity - totalSold - totalReserved)
                         .totalSold(totalSold)
-                        .totalReserved(0)
+                        .totalReserved(totalReserved)
                         .build())
                 .build();
     }
 
     private SeatingMapResponse.SectionWithSeatsResponse buildSectionWithSeats(
-            Section section, Set<UUID> soldSeatIds) {
+            Section section, SeatAvailabilityIndex.EventSeating seating) {
 
-        List<Seat> seats = seatRepository.findBySectionId(section.getId());
+        List<Seat> seats = seating.getSeats(section.getId());
 
         List<SeatResponse> seatResponses = seats.stream()
                 .map(seat -> SeatResponse.builder()
@@ -120,13 +119,12 @@ public class SeatingMapService {
                         .xPosition(seat.getXPosition())
                         .yPosition(seat.getYPosition())
                         .isAccessible(seat.getIsAccessible())
-                        .status(soldSeatIds.contains(seat.getId()) ? "SOLD" : "AVAILABLE")
+                        .status(seating.statusOf(seat.getId()))
                         .build())
                 .collect(Collectors.toList());
 
-        int soldCount = (int) seatResponses.stream()
-                .filter(s -> "SOLD".equals(s.getStatus()))
-                .count();
+        int soldCount = seating.soldCount(section.getId());
+        int reservedCount = seating.reservedCount(section.getId());
 
         return SeatingMapResponse.SectionWithSeatsResponse.builder()
                 .id(section.getId())
@@ -134,7 +132,7 @@ public class SeatingMapService {
                 .type(section.getType().name())
                 .capacity(section.getCapacity())
                 .layoutConfig(parseFromJson(section.getLayoutConfig()))
-                .availableCount(seats.size() - soldCount)
+                .availableCount(seats.size() - soldCount - reservedCount)
                 .soldCount(soldCount)
                 .seats(SectionType.SEATED.equals(section.getType()) ? seatResponses : null)
                 .build();
@@ -159,7 +157,9 @@ public class SeatingMapService {
                 .deleted(false)
                 .build();
 
-        return sectionRepository.save(section);
+        Section saved = sectionRepository.save(section);
+        seatAvailabilityIndex.invalidateVenue(venueId);
+        return saved;
     }
 
     /**
@@ -181,7 +181,9 @@ public class SeatingMapService {
             section.setLayoutConfig(serializeToJson(layoutConfig));
 
         log.info("Updated section {}", sectionId);
-        return sectionRepository.save(section);
+        Section saved = sectionRepository.save(section);
+        seatAvailabilityIndex.invalidateVenue(section.getVenueId());
+        return saved;
     }
 
     /**
@@ -194,6 +196,7 @@ public class SeatingMapService {
 
         section.setDeleted(true);
         sectionRepository.save(section);
+        seatAvailabilityIndex.invalidateVenue(section.getVenueId());
         log.info("Deleted section {}", sectionId);
     }
 
@@ -202,7 +205,7 @@ public class SeatingMapService {
      */
     @Transactional
     public List<Seat> createSeats(UUID sectionId, List<Seat> seats) {
-        sectionRepository.findById(sectionId)
+        Section section = sectionRepository.findById(sectionId)
                 .orElseThrow(() -> new RuntimeException("Section not found: " + sectionId));
 
         List<Seat> savedSeats = new ArrayList<>();
@@ -213,6 +216,7 @@ public class SeatingMapService {
             savedSeats.add(seatRepository.save(seat));
         }
 
+        seatAvailabilityIndex.invalidateVenue(section.getVenueId());
         log.info("Created {} seats for section {}", savedSeats.size(), sectionId);
         return savedSeats;
     }
@@ -0,0 +1,153 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.exception.SectionSoldOutException;
+import com.neonpass.domain.model.EventSection;
+import com.neonpass.domain.model.Section;
+import com.neonpass.domain.model.TicketTier;
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.port.out.*;
+import com.neonpass.domain.port.out.SectionInventory.AcquireResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Servicio de inventario de secciones de admisión general.
+ *
+ * <p>
+ * Las entradas se toman de los contadores de {@link SectionInventory} antes
+ * de crear la orden. Si la transacción no confirma, se devuelven. La capacidad de
+ * cada sección es la menor entre {@code EventSection.customCapacity} (o
+ * {@code Section.capacity}) y la suma de {@code TicketTier.capacityAllocated}
+ * del evento y la sección, y se mantiene en memoria
+ * {@code inventory.capacity-max-age-seconds}.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SectionInventoryService {
+
+    private static final List<TicketStatus> SOLD_STATUSES = List.of(TicketStatus.VALID, TicketStatus.USED);
+
+    private final SectionInventory sectionInventory;
+    private final SectionRepository sectionRepository;
+    private final EventSectionRepository eventSectionRepository;
+    private final TicketTierRepository ticketTierRepository;
+    private final TicketRepository ticketRepository;
+
+    @Value("${inventory.capacity-max-age-seconds:30}")
+    private long capacityMaxAgeSeconds;
+
+    private record CapacityKey(UUID eventId, UUID sectionId) {
+    }
+
+    private record CachedCapacity(int capacity, long loadedAt) {
+    }
+
+    private final ConcurrentHashMap<CapacityKey, CachedCapacity> capacities = new ConcurrentHashMap<>();
+
+    /**
+     * Toma las entradas de todas las secciones o de ninguna. Dentro de una
+     * transacción, las entradas se devuelven si esta no confirma.
+     *
+     * @param quantities cantidad por sección
+     * @throws SectionSoldOutException si alguna sección no tiene capacidad
+     */
+    public void acquireAll(UUID eventId, Map<UUID, Integer> quantities) {
+        Map<UUID, Integer> acquired = new LinkedHashMap<>();
+        try {
+            quantities.forEach((sectionId, quantity) -> {
+                acquire(eventId, sectionId, quantity);
+                acquired.put(sectionId, quantity);
+            });
+        } catch (RuntimeException e) {
+            releaseAll(eventId, acquired);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.info("Compra no confirmada, devolviendo entradas de evento {}: {}", eventId, acquired);
+                        releaseAll(eventId, acquired);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Devuelve entradas tomadas con {@link #acquireAll}.
+     */
+    public void releaseAll(UUID eventId, Map<UUID, Integer> quantities) {
+        quantities.forEach((sectionId, quantity) -> sectionInventory.release(eventId, sectionId, quantity));
+    }
+
+    private void acquire(UUID eventId, UUID sectionId, int quantity) {
+        int capacity = capacityOf(eventId, sectionId);
+
+        AcquireResult result = sectionInventory.tryAcquire(eventId, sectionId, quantity, capacity);
+        if (result == AcquireResult.NOT_INITIALIZED) {
+            long sold = ticketRepository.countByEventIdAndSectionIdAndStatusIn(eventId, sectionId, SOLD_STATUSES);
+            sectionInventory.initialize(eventId, sectionId, sold);
+            result = sectionInventory.tryAcquire(eventId, sectionId, quantity, capacity);
+        }
+
+        if (result != AcquireResult.ACQUIRED) {
+            log.warn("Sección {} sin capacidad para {} entradas en evento {}", sectionId, quantity, eventId);
+            throw new SectionSoldOutException(sectionId, eventId, quantity);
+        }
+    }
+
+    private int capacityOf(UUID eventId, UUID sectionId) {
+        CapacityKey key = new CapacityKey(eventId, sectionId);
+        CachedCapacity cached = capacities.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() <= capacityMaxAgeSeconds * 1000) {
+            return cached.capacity();
+        }
+
+        int capacity = loadCapacity(eventId, sectionId);
+        capacities.put(key, new CachedCapacity(capacity, System.currentTimeMillis()));
+        return capacity;
+    }
+
+    private int loadCapacity(UUID eventId, UUID sectionId) {
+        Section section = sectionRepository.findById(sectionId)
+                .orElseThrow(() -> new RuntimeException("Section not found: " + sectionId));
+
+        Optional<EventSection> eventSection = eventSectionRepository.findByEventIdAndSectionId(eventId, sectionId);
+        if (eventSection.isPresent() && Boolean.FALSE.equals(eventSection.get().getIsActive())) {
+            throw new IllegalArgumentException("La sección " + sectionId + " no está a la venta para este evento");
+        }
+
+        Integer sectionCapacity = eventSection
+                .map(EventSection::getCustomCapacity)
+                .orElse(null);
+        if (sectionCapacity == null) {
+            sectionCapacity = section.getCapacity();
+        }
+
+        List<TicketTier> tiers = ticketTierRepository.findByEventIdAndSectionId(eventId, sectionId);
+        Integer tierCapacity = !tiers.isEmpty() && tiers.stream().allMatch(t -> t.getCapacityAllocated() != null)
+                ? tiers.stream().mapToInt(TicketTier::getCapacityAllocated).sum()
+                : null;
+
+        if (sectionCapacity == null && tierCapacity == null) {
+            log.warn("Sección {} sin capacidad configurada, no se limita la venta", sectionId);
+            return Integer.MAX_VALUE;
+        }
+        if (sectionCapacity == null || tierCapacity == null) {
+            return sectionCapacity != null ? sectionCapacity : tierCapacity;
+        }
+        return Math.min(sectionCapacity, tierCapacity);
+    }
+}
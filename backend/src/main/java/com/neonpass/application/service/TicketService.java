@@ -5,15 +5,10 @@ import com.neonpass.domain.model.enums.TicketStatus;
 import com.neonpass.domain.port.out.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.UUID;
 
 /**
@@ -25,11 +20,7 @@ import java.util.UUID;
 public class TicketService {
 
     private final TicketRepository ticketRepository;
-
-    @Value("${ticket.signing.secret}")
-    private String signingSecret;
-
-    private static final String HMAC_ALGO = "HmacSHA256";
+    private final TicketSigner ticketSigner;
 
     /**
      * Crea un ticket con QR hash firmado.
@@ -39,6 +30,7 @@ public class TicketService {
             UUID eventId,
             UUID ticketTierId,
             UUID seatId,
+            UUID sectionId,
             BigDecimal price,
             String currency) {
 
@@ -46,7 +38,7 @@ public class TicketService {
 
         // Generar QR hash firmado (anti-fraude)
         String qrPayload = buildQrPayload(ticketId, eventId, seatId);
-        String qrCodeHash = signPayload(qrPayload);
+        String qrCodeHash = ticketSigner.sign(qrPayload);
 
         Ticket ticket = Ticket.builder()
                 .id(ticketId)
@@ -54,6 +46,7 @@ public class TicketService {
                 .eventId(eventId)
                 .ticketTierId(ticketTierId)
                 .seatId(seatId)
+                .sectionId(sectionId)
                 .priceSnapshot(price)
                 .currencySnapshot(currency)
                 .qrCodeHash(qrCodeHash)
@@ -77,25 +70,4 @@ public class TicketService {
                 seatId != null ? seatId : "GA",
                 System.currentTimeMillis());
     }
-
-    /**
-     * Firma el payload con HMAC-SHA256.
-     */
-    private String signPayload(String payload) {
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGO);
-            SecretKeySpec secretKey = new SecretKeySpec(
-                    signingSecret.getBytes(StandardCharsets.UTF_8),
-                    HMAC_ALGO);
-            mac.init(secretKey);
-            byte[] hash = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
-
-            // Payload + signature
-            String signature = Base64.getUrlEncoder().encodeToString(hash);
-            return Base64.getUrlEncoder().encodeToString(payload.getBytes()) + "." + signature;
-        } catch (Exception e) {
-            log.error("Error firmando payload", e);
-            throw new RuntimeException("Error generando QR hash", e);
-        }
-    }
 }
@@ -0,0 +1,102 @@
+package com.neonpass.application.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Firma HMAC-SHA256 con {@code ticket.signing.secret}.
+ *
+ * <p>
+ * La clave se prepara una sola vez y cada hilo reutiliza su propio
+ * {@link Mac} ({@code Mac} no es thread-safe), así que firmar o verificar no
+ * busca el proveedor ni reserva objetos de criptografía. Las firmas se
+ * comparan byte a byte en tiempo constante.
+ * </p>
+ */
+@Component
+public class TicketSigner {
+
+    private static final String HMAC_ALGO = "HmacSHA256";
+
+    @Value("${ticket.signing.secret}")
+    private String signingSecret;
+
+    private SecretKeySpec key;
+    private ThreadLocal<Mac> macs;
+
+    @PostConstruct
+    void init() {
+        key = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGO);
+        macs = ThreadLocal.withInitial(this::newMac);
+        newMac(); // Falla al arrancar si el algoritmo o la clave no sirven
+    }
+
+    /**
+     * QR hash: {@code base64url(payload).base64url(hmac)}.
+     */
+    public String sign(String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder();
+        return encoder.encodeToString(bytes) + "." + encoder.encodeToString(hmac(bytes));
+    }
+
+    /**
+     * @param payload   payload ya decodificado del QR
+     * @param signature firma en base64url, tal como viene en el QR
+     */
+    public boolean verify(byte[] payload, String signature) {
+        byte[] expected;
+        try {
+            expected = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(hmac(payload), expected);
+    }
+
+    /**
+     * Verifica un QR hash completo.
+     *
+     * @return payload del QR si la firma es válida; vacío si el formato o la
+     *         firma no lo son
+     */
+    public Optional<String> verifiedPayload(String qrCodeHash) {
+        int dot = qrCodeHash != null ? qrCodeHash.indexOf('.') : -1;
+        if (dot < 0) {
+            return Optional.empty();
+        }
+
+        byte[] payload;
+        try {
+            payload = Base64.getUrlDecoder().decode(qrCodeHash.substring(0, dot));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return verify(payload, qrCodeHash.substring(dot + 1))
+                ? Optional.of(new String(payload, StandardCharsets.UTF_8))
+                : Optional.empty();
+    }
+
+    public byte[] hmac(byte[] data) {
+        return macs.get().doFinal(data);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGO);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo inicializar " + HMAC_ALGO, e);
+        }
+    }
+}
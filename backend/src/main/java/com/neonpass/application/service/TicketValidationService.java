@@ -2,24 +2,18 @@ package com.neonpass.application.service;
 
 import com.neonpass.domain.exception.TicketAlreadyUsedException;
 import com.neonpass.domain.model.Ticket;
-import com.neonpass.domain.model.TicketValidation;
 import com.neonpass.domain.model.enums.TicketStatus;
 import com.neonpass.domain.model.enums.ValidationStatus;
 import com.neonpass.domain.port.in.ValidateTicketUseCase;
 import com.neonpass.domain.port.out.TicketRepository;
-import com.neonpass.domain.port.out.TicketValidationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Servicio de validación de tickets en puerta.
@@ -31,115 +25,235 @@ import java.util.UUID;
 public class TicketValidationService implements ValidateTicketUseCase {
 
     private final TicketRepository ticketRepository;
-    private final TicketValidationRepository validationRepository;
+    private final MyTicketService myTicketService;
+    private final RedemptionIndex redemptionIndex;
+    private final TicketSigner ticketSigner;
 
-    @Value("${ticket.signing.secret}")
-    private String signingSecret;
+    /** QR leído: el ticket y su evento, o el motivo del rechazo */
+    private record ScannedQr(UUID ticketId, UUID eventId, ValidationResult rejection) {
 
-    private static final String HMAC_ALGO = "HmacSHA256";
+        /** Ya canjeado según la memoria; no se necesita la base de datos */
+        boolean knownRedeemed(RedemptionIndex index) {
+            return eventId != null && index.isRedeemed(eventId, ticketId);
+        }
+    }
 
     @Override
     public ValidationResult execute(ValidateTicketCommand command) {
         log.info("Validando ticket con QR hash");
 
         // 1. Verificar firma del QR
-        String[] parts = command.qrCodeHash().split("\\.");
+        ScannedQr scanned = decode(command.qrCodeHash());
+        if (scanned.rejection() != null) {
+            return scanned.rejection();
+        }
+        UUID ticketId = scanned.ticketId();
+
+        // 2. Rechazar en memoria los tickets que ya se canjearon
+        if (scanned.knownRedeemed(redemptionIndex)) {
+            log.warn("Ticket ya usado: {}", ticketId);
+            throw new TicketAlreadyUsedException(ticketId);
+        }
+
+        // 3. Marcar como usado y registrar la validación en una sola sentencia
+        Ticket ticket = ticketRepository.redeem(ticketId, command.validatedBy(), LocalDateTime.now())
+                .orElse(null);
+        if (ticket == null) {
+            return rejectRedemption(ticketId);
+        }
+        myTicketService.recordStatusChange(ticket);
+        redemptionIndex.markRedeemed(ticket.getEventId(), List.of(ticket.getId()));
+
+        log.info("Ticket validado exitosamente: {}", ticketId);
+
+        return admittedResult(ticket);
+    }
+
+    @Override
+    public List<ValidationResult> executeBatch(List<String> qrCodeHashes, UUID validatedBy) {
+        log.info("Validando lote de {} tickets", qrCodeHashes.size());
+
+        // 1. Verificar firmas en paralelo (conserva el orden de entrada)
+        List<ScannedQr> scanned = qrCodeHashes.parallelStream()
+                .map(this::decode)
+                .toList();
+
+        // 2. Descartar en memoria los tickets que ya se canjearon
+        Set<UUID> knownRedeemed = new HashSet<>();
+        Set<UUID> ticketIds = new LinkedHashSet<>();
+        for (ScannedQr qr : scanned) {
+            if (qr.ticketId() == null) {
+                continue;
+            }
+            if (qr.knownRedeemed(redemptionIndex)) {
+                knownRedeemed.add(qr.ticketId());
+            } else {
+                ticketIds.add(qr.ticketId());
+            }
+        }
+
+        // 3. Canjear todos los tickets válidos en una sola sentencia
+        Map<UUID, Ticket> redeemed = new HashMap<>();
+        if (!ticketIds.isEmpty()) {
+            for (Ticket ticket : ticketRepository.redeemAll(ticketIds, validatedBy, LocalDateTime.now())) {
+                redeemed.put(ticket.getId(), ticket);
+            }
+            myTicketService.recordStatusChanges(redeemed.values());
+            markRedeemed(redeemed.values());
+        }
+
+        // 4. Consultar solo los que no se pudieron canjear, para explicar el rechazo
+        Set<UUID> rejectedIds = new HashSet<>(ticketIds);
+        rejectedIds.removeAll(redeemed.keySet());
+        Map<UUID, Ticket> rejected = new HashMap<>();
+        if (!rejectedIds.isEmpty()) {
+            for (Ticket ticket : ticketRepository.findAllById(rejectedIds)) {
+                rejected.put(ticket.getId(), ticket);
+            }
+            rejected.values().stream()
+                    .filter(ticket -> ticket.getStatus() == TicketStatus.USED)
+                    .forEach(ticket -> redemptionIndex.remember(ticket.getEventId(), List.of(ticket.getId())));
+        }
+
+        Set<UUID> admitted = new HashSet<>();
+        List<ValidationResult> results = new ArrayList<>(scanned.size());
+        for (ScannedQr qr : scanned) {
+            if (qr.rejection() != null) {
+                results.add(qr.rejection());
+                continue;
+            }
+            if (knownRedeemed.contains(qr.ticketId())) {
+                results.add(duplicateResult(qr.ticketId()));
+                continue;
+            }
+
+            Ticket ticket = redeemed.get(qr.ticketId());
+            if (ticket != null && admitted.add(ticket.getId())) {
+                results.add(admittedResult(ticket));
+            } else if (ticket != null) {
+                // El mismo QR aparece más de una vez en el lote
+                results.add(duplicateResult(ticket.getId()));
+            } else {
+                results.add(batchRejection(qr.ticketId(), rejected.get(qr.ticketId())));
+            }
+        }
+
+        log.info("Lote validado: {} de {} tickets admitidos", admitted.size(), qrCodeHashes.size());
+        return results;
+    }
+
+    /**
+     * Verifica la firma del QR y extrae el ID del ticket.
+     */
+    private ScannedQr decode(String qrCodeHash) {
+        String[] parts = qrCodeHash.split("\\.");
         if (parts.length != 2) {
             log.warn("QR hash formato inválido");
-            return failedResult("QR_INVALID_FORMAT", "Formato de QR inválido");
+            return rejected("QR_INVALID_FORMAT", "Formato de QR inválido");
         }
 
-        String payloadBase64 = parts[0];
-        String signature = parts[1];
-
         // Decodificar payload
-        String payload;
+        byte[] payloadBytes;
         try {
-            payload = new String(Base64.getUrlDecoder().decode(payloadBase64));
-        } catch (Exception e) {
+            payloadBytes = Base64.getUrlDecoder().decode(parts[0]);
+        } catch (IllegalArgumentException e) {
             log.warn("Error decodificando payload");
-            return failedResult("QR_DECODE_ERROR", "Error decodificando QR");
+            return rejected("QR_DECODE_ERROR", "Error decodificando QR");
         }
 
-        // Verificar firma
-        if (!verifySignature(payloadBase64, signature)) {
+        // Verificar firma sobre los mismos bytes
+        if (!ticketSigner.verify(payloadBytes, parts[1])) {
             log.warn("Firma inválida");
-            return failedResult("SIGNATURE_INVALID", "Firma de ticket inválida");
+            return rejected("SIGNATURE_INVALID", "Firma de ticket inválida");
         }
+        String payload = new String(payloadBytes, StandardCharsets.UTF_8);
 
         // Extraer ticketId del payload (formato: ticketId:eventId:seatId:timestamp)
         String[] payloadParts = payload.split(":");
         if (payloadParts.length < 2) {
-            return failedResult("PAYLOAD_INVALID", "Payload de ticket inválido");
+            return rejected("PAYLOAD_INVALID", "Payload de ticket inválido");
         }
 
         UUID ticketId;
         try {
             ticketId = UUID.fromString(payloadParts[0]);
         } catch (Exception e) {
-            return failedResult("TICKET_ID_INVALID", "ID de ticket inválido");
+            return rejected("TICKET_ID_INVALID", "ID de ticket inválido");
+        }
+        return new ScannedQr(ticketId, parseEventId(payloadParts[1]), null);
+    }
+
+    private UUID parseEventId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
+    }
 
-        // 2. Buscar ticket en BD
-        Ticket ticket = ticketRepository.findById(ticketId).orElse(null);
+    private ScannedQr rejected(String code, String message) {
+        return new ScannedQr(null, null, failedResult(code, message));
+    }
+
+    /**
+     * Registra en memoria los tickets canjeados, agrupados por evento.
+     */
+    private void markRedeemed(Collection<Ticket> tickets) {
+        Map<UUID, List<UUID>> byEvent = new HashMap<>();
+        for (Ticket ticket : tickets) {
+            byEvent.computeIfAbsent(ticket.getEventId(), id -> new ArrayList<>()).add(ticket.getId());
+        }
+        byEvent.forEach(redemptionIndex::markRedeemed);
+    }
+
+    /**
+     * Motivo del rechazo de un ticket del lote. A diferencia de la validación
+     * individual, un ticket ya usado no lanza excepción.
+     */
+    private ValidationResult batchRejection(UUID ticketId, Ticket ticket) {
         if (ticket == null) {
             return failedResult("TICKET_NOT_FOUND", "Ticket no encontrado");
         }
-
-        // 3. Verificar estado
         if (ticket.getStatus() == TicketStatus.USED) {
             log.warn("Ticket ya usado: {}", ticketId);
-            throw new TicketAlreadyUsedException(ticketId);
+            return duplicateResult(ticketId);
         }
+        return failedResult("TICKET_INVALID_STATUS",
+                "El ticket tiene estado: " + ticket.getStatus());
+    }
 
-        if (ticket.getStatus() != TicketStatus.VALID) {
-            return failedResult("TICKET_INVALID_STATUS",
-                    "El ticket tiene estado: " + ticket.getStatus());
-        }
-
-        // 4. Marcar como usado
-        ticket.setStatus(TicketStatus.USED);
-        ticket.setScannedAt(LocalDateTime.now());
-        ticketRepository.save(ticket);
-
-        // 5. Registrar validación
-        TicketValidation validation = TicketValidation.builder()
-                .id(UUID.randomUUID())
-                .ticketId(ticketId)
-                .validatedAt(LocalDateTime.now())
-                .status(ValidationStatus.SUCCESS)
-                .validatedBy(command.validatedBy())
-                .build();
-        validationRepository.save(validation);
-
-        log.info("Ticket validado exitosamente: {}", ticketId);
-
+    private ValidationResult admittedResult(Ticket ticket) {
         return new ValidationResult(
-                ticketId,
+                ticket.getId(),
                 ticket.getEventId(),
                 ticket.getSeatId(),
                 ValidationStatus.SUCCESS,
                 "Ticket válido - Bienvenido!");
     }
 
-    private boolean verifySignature(String payloadBase64, String signature) {
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGO);
-            SecretKeySpec secretKey = new SecretKeySpec(
-                    signingSecret.getBytes(StandardCharsets.UTF_8),
-                    HMAC_ALGO);
-            mac.init(secretKey);
-
-            // Decodificar payload antes de firmar
-            String payload = new String(Base64.getUrlDecoder().decode(payloadBase64));
-            byte[] hash = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
-            String expectedSignature = Base64.getUrlEncoder().encodeToString(hash);
-
-            return expectedSignature.equals(signature);
-        } catch (Exception e) {
-            log.error("Error verificando firma", e);
-            return false;
+    private ValidationResult duplicateResult(UUID ticketId) {
+        return new ValidationResult(ticketId, null, null, ValidationStatus.DUPLICATE_ATTEMPT,
+                "El ticket " + ticketId + " ya ha sido utilizado");
+    }
+
+    /**
+     * Explica por qué no se pudo canjear el ticket. Solo se consulta en el
+     * camino de rechazo.
+     */
+    private ValidationResult rejectRedemption(UUID ticketId) {
+        Ticket ticket = ticketRepository.findById(ticketId).orElse(null);
+        if (ticket == null) {
+            return failedResult("TICKET_NOT_FOUND", "Ticket no encontrado");
+        }
+
+        if (ticket.getStatus() == TicketStatus.USED) {
+            log.warn("Ticket ya usado: {}", ticketId);
+            redemptionIndex.remember(ticket.getEventId(), List.of(ticketId));
+            throw new TicketAlreadyUsedException(ticketId);
         }
+
+        return failedResult("TICKET_INVALID_STATUS",
+                "El ticket tiene estado: " + ticket.getStatus());
     }
 
     private ValidationResult failedResult(String code, String message) {
@@ -29,6 +29,7 @@ public class UserService implements CreateUserUseCase, AuthenticateUserUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final PlatformMetricsService platformMetricsService;
 
     @Override
     public User execute(CreateUserCommand command) {
@@ -51,6 +52,7 @@ public class UserService implements CreateUserUseCase, AuthenticateUserUseCase {
                 .build();
 
         User savedUser = userRepository.save(user);
+        platformMetricsService.recordUserCreated(savedUser.getRole());
         log.info("Usuario registrado exitosamente: {}", savedUser.getId());
 
         return savedUser;
@@ -23,6 +23,7 @@ import java.util.UUID;
 public class VenueService implements CreateVenueUseCase {
 
     private final VenueRepository venueRepository;
+    private final PlatformMetricsService platformMetricsService;
 
     @Override
     public Venue execute(CreateVenueCommand command) {
@@ -39,6 +40,7 @@ public class VenueService implements CreateVenueUseCase {
                 .build();
 
         Venue saved = venueRepository.save(venue);
+        platformMetricsService.recordVenueCreated();
         log.info("Venue creado: {}", saved.getId());
 
         return saved;
@@ -0,0 +1,225 @@
+package com.neonpass.application.service;
+
+import com.neonpass.domain.exception.AdmissionRequiredException;
+import com.neonpass.domain.port.out.WaitingRoomStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Sala de espera virtual para on-sales.
+ *
+ * <p>
+ * Mientras la sala de un evento está abierta, cada usuario que entra recibe
+ * un número de fila firmado y la sala admite números en orden a
+ * {@code admissionsPerSecond}. Al llegar su turno el usuario recibe un token
+ * de admisión firmado que reservas y checkout exigen para ese evento. Los
+ * eventos sin sala abierta no exigen admisión.
+ * </p>
+ *
+ * <p>
+ * La fila vive en {@link WaitingRoomStore}: con Redis todos los nodos
+ * comparten números, frontera y hora de admisión; el adapter en memoria solo
+ * sirve para un nodo. La admisión vence {@code admission-ttl-minutes} después
+ * de la primera vez que el número se vio admitido, por mucho que se consulte
+ * el estado después. Los tokens se firman con
+ * {@code waiting-room.signing-secret}, distinto del secreto de tickets.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    /** Header con el token de admisión en reservas y checkout */
+    public static final String ADMISSION_HEADER = "X-Admission-Token";
+
+    private static final String HMAC_ALGO = "HmacSHA256";
+    private static final String QUEUE_TOKEN = "Q";
+    private static final String ADMISSION_TOKEN = "A";
+
+    private final WaitingRoomStore waitingRoomStore;
+
+    @Value("${waiting-room.signing-secret}")
+    private String signingSecret;
+
+    @Value("${waiting-room.admission-ttl-minutes:15}")
+    private long admissionTtlMinutes;
+
+    private SecretKeySpec key;
+    private ThreadLocal<Mac> macs;
+
+    @PostConstruct
+    void init() {
+        key = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGO);
+        macs = ThreadLocal.withInitial(this::newMac);
+        newMac(); // Falla al arrancar si el algoritmo o la clave no sirven
+    }
+
+    /**
+     * Estado de un usuario en la fila. Si fue admitido con la sala abierta
+     * incluye el token de admisión y su expiración.
+     */
+    public record QueueStatus(
+            UUID eventId,
+            String queueToken,
+            boolean admitted,
+            long position,
+            long estimatedWaitSeconds,
+            String admissionToken,
+            Instant admissionExpiresAt) {
+    }
+
+    /**
+     * Abre la sala de un evento o cambia su ritmo de admisión.
+     */
+    public void open(UUID eventId, int admissionsPerSecond) {
+        if (admissionsPerSecond < 1) {
+            throw new IllegalArgumentException("La sala debe admitir al menos 1 usuario por segundo");
+        }
+
+        waitingRoomStore.open(eventId, admissionsPerSecond);
+        log.info("Sala de espera abierta para evento {} ({} admisiones/s)", eventId, admissionsPerSecond);
+    }
+
+    /**
+     * Cierra la sala: el evento deja de exigir admisión.
+     */
+    public void close(UUID eventId) {
+        waitingRoomStore.close(eventId);
+        log.info("Sala de espera cerrada para evento {}", eventId);
+    }
+
+    /**
+     * Entra a la fila. Sin sala abierta el usuario queda admitido al instante
+     * y no necesita token de admisión.
+     */
+    public QueueStatus join(UUID eventId, UUID userId) {
+        OptionalLong issued = waitingRoomStore.issue(eventId);
+        if (issued.isEmpty()) {
+            return new QueueStatus(eventId, sign(QUEUE_TOKEN, eventId, userId, 0), true, 0, 0, null, null);
+        }
+
+        long number = issued.getAsLong();
+        return statusOf(eventId, userId, number, sign(QUEUE_TOKEN, eventId, userId, number));
+    }
+
+    /**
+     * Consulta la posición de un número de fila emitido por {@link #join}.
+     */
+    public QueueStatus status(UUID eventId, UUID userId, String queueToken) {
+        long number = verify(queueToken, QUEUE_TOKEN, eventId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Token de fila inválido"));
+        return statusOf(eventId, userId, number, queueToken);
+    }
+
+    /**
+     * Exige un token de admisión vigente si el evento tiene la sala abierta.
+     *
+     * @throws AdmissionRequiredException si falta, es inválido o expiró
+     */
+    public void requireAdmission(String admissionToken, UUID eventId, UUID userId) {
+        if (!waitingRoomStore.isOpen(eventId)) {
+            return;
+        }
+
+        long expiresAt = verify(admissionToken, ADMISSION_TOKEN, eventId, userId)
+                .orElseThrow(() -> new AdmissionRequiredException(eventId));
+        if (expiresAt < System.currentTimeMillis()) {
+            throw new AdmissionRequiredException(eventId);
+        }
+    }
+
+    private QueueStatus statusOf(UUID eventId, UUID userId, long number, String queueToken) {
+        WaitingRoomStore.Turn turn = number > 0 ? waitingRoomStore.turn(eventId, number).orElse(null) : null;
+
+        if (turn == null) {
+            // Un número emitido sin sala (0) no sirve una vez abierta
+            if (number == 0 && waitingRoomStore.isOpen(eventId)) {
+                throw new IllegalArgumentException("La sala de espera se abrió; vuelve a entrar a la fila");
+            }
+            return new QueueStatus(eventId, queueToken, true, 0, 0, null, null);
+        }
+
+        if (!turn.admitted()) {
+            long waitSeconds = (turn.ahead() + turn.rate() - 1) / turn.rate();
+            return new QueueStatus(eventId, queueToken, false, turn.ahead(), waitSeconds, null, null);
+        }
+
+        Instant expiresAt = Instant.ofEpochMilli(turn.admittedAt()).plusSeconds(admissionTtlMinutes * 60);
+        if (expiresAt.isBefore(Instant.now())) {
+            throw new IllegalArgumentException("La admisión expiró; vuelve a entrar a la fila");
+        }
+
+        String admissionToken = sign(ADMISSION_TOKEN, eventId, userId, expiresAt.toEpochMilli());
+        return new QueueStatus(eventId, queueToken, true, 0, 0, admissionToken, expiresAt);
+    }
+
+    /**
+     * Token: {@code base64url(tipo:eventId:userId:valor).base64url(hmac)}.
+     */
+    private String sign(String type, UUID eventId, UUID userId, long value) {
+        String payload = type + ":" + eventId + ":" + userId + ":" + value;
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(hmac(payload));
+    }
+
+    /**
+     * @return valor del token si la firma es válida y corresponde al tipo,
+     *         evento y usuario
+     */
+    private OptionalLong verify(String token, String type, UUID eventId, UUID userId) {
+        if (token == null) {
+            return OptionalLong.empty();
+        }
+
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            String payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(hmac(payload), signature)) {
+                return OptionalLong.empty();
+            }
+
+            String prefix = type + ":" + eventId + ":" + userId + ":";
+            if (!payload.startsWith(prefix)) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(Long.parseLong(payload.substring(prefix.length())));
+        } catch (IllegalArgumentException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private byte[] hmac(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGO);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo inicializar " + HMAC_ALGO, e);
+        }
+    }
+}
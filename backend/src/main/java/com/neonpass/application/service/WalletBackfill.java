@@ -0,0 +1,78 @@
+package com.neonpass.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Migra a la billetera los tickets que no tienen fila (comprados antes del
+ * modelo de lectura).
+ *
+ * <p>
+ * Recorre los tickets por ID en tandas de {@code wallet.backfill.batch-size},
+ * cada una en su propia transacción, y al terminar habilita la lectura desde
+ * el modelo. Si una tanda falla se reintenta desde el mismo punto. Una vez
+ * migrado todo, los arranques siguientes solo ejecutan una consulta vacía.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WalletBackfill {
+
+    private static final UUID START = new UUID(0, 0);
+    private static final long RETRY_SECONDS = 30;
+
+    private final MyTicketService myTicketService;
+
+    @Value("${wallet.backfill.batch-size:500}")
+    private int batchSize;
+
+    private final ScheduledExecutorService runner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "wallet-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Último ticket migrado; solo lo toca el hilo del runner */
+    private UUID cursor = START;
+    private int batches;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        runner.execute(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        runner.shutdownNow();
+    }
+
+    private void run() {
+        try {
+            UUID next;
+            while ((next = myTicketService.backfill(cursor, batchSize)) != null) {
+                cursor = next;
+                batches++;
+            }
+        } catch (RuntimeException e) {
+            log.error("Error migrando billetera; reintento en {}s", RETRY_SECONDS, e);
+            runner.schedule(this::run, RETRY_SECONDS, TimeUnit.SECONDS);
+            return;
+        }
+
+        myTicketService.markBackfilled();
+        if (batches > 0) {
+            log.info("Billetera migrada en {} tandas", batches);
+        }
+    }
+}
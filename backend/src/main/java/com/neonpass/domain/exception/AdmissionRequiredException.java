@@ -0,0 +1,21 @@
+package com.neonpass.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Excepción lanzada cuando un evento con sala de espera abierta recibe una
+ * reserva o checkout sin un token de admisión vigente.
+ */
+public class AdmissionRequiredException extends RuntimeException {
+
+    private final UUID eventId;
+
+    public AdmissionRequiredException(UUID eventId) {
+        super("Se requiere admisión de la sala de espera para el evento " + eventId);
+        this.eventId = eventId;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+}
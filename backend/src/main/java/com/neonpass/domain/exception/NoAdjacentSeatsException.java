@@ -0,0 +1,27 @@
+package com.neonpass.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Excepción lanzada cuando una sección no tiene la cantidad pedida de
+ * asientos libres y contiguos.
+ */
+public class NoAdjacentSeatsException extends RuntimeException {
+
+    private final UUID sectionId;
+    private final int quantity;
+
+    public NoAdjacentSeatsException(UUID sectionId, int quantity) {
+        super("No hay " + quantity + " asientos contiguos disponibles en la sección " + sectionId);
+        this.sectionId = sectionId;
+        this.quantity = quantity;
+    }
+
+    public UUID getSectionId() {
+        return sectionId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
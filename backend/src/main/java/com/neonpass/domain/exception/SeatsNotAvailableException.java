@@ -0,0 +1,32 @@
+package com.neonpass.domain.exception;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Excepción lanzada cuando una reserva múltiple no puede completarse porque
+ * uno o más asientos no están disponibles.
+ *
+ * <p>
+ * La reserva es todo o nada: ningún asiento queda bloqueado cuando se lanza.
+ * </p>
+ */
+public class SeatsNotAvailableException extends RuntimeException {
+
+    private final List<UUID> seatIds;
+    private final UUID eventId;
+
+    public SeatsNotAvailableException(List<UUID> seatIds, UUID eventId) {
+        super(seatIds.size() + " asiento(s) no están disponibles para el evento " + eventId);
+        this.seatIds = List.copyOf(seatIds);
+        this.eventId = eventId;
+    }
+
+    public List<UUID> getSeatIds() {
+        return seatIds;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.neonpass.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Excepción lanzada cuando una sección de admisión general no tiene
+ * capacidad para la cantidad de entradas pedida.
+ */
+public class SectionSoldOutException extends RuntimeException {
+
+    private final UUID sectionId;
+    private final UUID eventId;
+    private final int quantity;
+
+    public SectionSoldOutException(UUID sectionId, UUID eventId, int quantity) {
+        super("La sección " + sectionId + " no tiene capacidad para " + quantity + " entrada(s) en el evento "
+                + eventId);
+        this.sectionId = sectionId;
+        this.eventId = eventId;
+        this.quantity = quantity;
+    }
+
+    public UUID getSectionId() {
+        return sectionId;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
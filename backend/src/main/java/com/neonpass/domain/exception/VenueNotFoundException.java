@@ -0,0 +1,20 @@
+package com.neonpass.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Excepción lanzada cuando no se encuentra un venue.
+ */
+public class VenueNotFoundException extends RuntimeException {
+
+    private final UUID venueId;
+
+    public VenueNotFoundException(UUID venueId) {
+        super("Venue no encontrado: " + venueId);
+        this.venueId = venueId;
+    }
+
+    public UUID getVenueId() {
+        return venueId;
+    }
+}
@@ -0,0 +1,49 @@
+package com.neonpass.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vista tipada de la metadata JSON de un evento.
+ *
+ * <p>
+ * Expone las imágenes de {@code media.images} y conserva el documento
+ * completo en {@code values}. Las instancias se comparten entre lecturas y
+ * entre hilos, así que son inmutables: sin setters y con colecciones no
+ * modificables.
+ * </p>
+ */
+@Value
+@Builder
+public class EventMetadata {
+
+    /** Evento sin metadata o con un JSON inválido */
+    public static final EventMetadata EMPTY = EventMetadata.builder().build();
+
+    /** Documento completo, o null si el evento no tiene metadata */
+    private Map<String, Object> values;
+    private EventImage banner;
+    private EventImage thumbnail;
+    private List<EventImage> gallery;
+
+    /**
+     * Imagen almacenada en el proveedor (Cloudinary).
+     */
+    @Value
+    @Builder
+    public static class EventImage {
+        private String url;
+        private String provider;
+        private String publicId;
+        private Integer width;
+        private Integer height;
+        private String format;
+        private Long bytes;
+        private String altText;
+        private Integer displayOrder;
+        private Map<String, String> transformations;
+    }
+}
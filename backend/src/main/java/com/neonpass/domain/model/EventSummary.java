@@ -0,0 +1,45 @@
+package com.neonpass.domain.model;
+
+import com.neonpass.domain.model.enums.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Vista resumida de un evento para listados.
+ *
+ * <p>
+ * Se obtiene con una proyección que no carga {@code metadata}: la URL de la
+ * miniatura y el nombre del venue vienen ya resueltos por la consulta.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummary {
+
+    /** Largo de la descripción en los listados; si es mayor se recorta */
+    public static final int DESCRIPTION_LENGTH = 150;
+
+    /**
+     * Caracteres de descripción que traen las consultas: uno más que el
+     * recorte, para saber si hace falta recortar
+     */
+    public static final int LOADED_DESCRIPTION_LENGTH = DESCRIPTION_LENGTH + 1;
+
+    private UUID id;
+    private String title;
+    /** Descripción recortada a {@link #LOADED_DESCRIPTION_LENGTH} por la consulta */
+    private String description;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private EventStatus status;
+    /** Miniatura, o el banner si no hay miniatura */
+    private String thumbnailUrl;
+    private String venueName;
+}
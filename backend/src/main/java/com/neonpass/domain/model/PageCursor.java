@@ -0,0 +1,48 @@
+package com.neonpass.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posición en un listado ordenado por {@code (fecha, id)}, con la fecha del
+ * listado ({@code createdAt}, {@code startTime}...) y el ID del último
+ * registro devuelto.
+ *
+ * <p>
+ * La página siguiente empieza en el primer registro estrictamente posterior a
+ * la posición en el orden del listado, de modo que la base de datos la busca
+ * por índice sin recorrer las páginas previas. Se intercambia con el cliente
+ * como un token opaco.
+ * </p>
+ */
+public record PageCursor(LocalDateTime timestamp, UUID id) {
+
+    public static PageCursor of(LocalDateTime timestamp, UUID id) {
+        return new PageCursor(timestamp, id);
+    }
+
+    /**
+     * @return token opaco: {@code base64url(timestamp|id)}
+     */
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido");
+        }
+    }
+}
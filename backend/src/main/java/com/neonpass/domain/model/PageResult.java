@@ -0,0 +1,12 @@
+package com.neonpass.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resultados con el total de registros que cumplen el filtro.
+ *
+ * @param totalElements total de registros, o null en las páginas pedidas por
+ *                      cursor (no se cuenta al paginar por cursor)
+ */
+public record PageResult<T>(List<T> content, Long totalElements) {
+}
@@ -29,6 +29,8 @@ public class Ticket {
     private UUID ticketTierId;
     /** Nullable para General Admission */
     private UUID seatId;
+    /** Sección de admisión general (null para tickets con asiento) */
+    private UUID sectionId;
     /** Precio congelado al momento de la compra */
     private BigDecimal priceSnapshot;
     /** Moneda congelada al momento de la compra */
@@ -0,0 +1,46 @@
+package com.neonpass.domain.model;
+
+import com.neonpass.domain.model.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Modelo de lectura de un ticket en la billetera del usuario.
+ *
+ * <p>
+ * Copia desnormalizada de los datos del ticket, evento, venue, asiento,
+ * sección y tier que muestra la billetera. Se escribe en el checkout y se
+ * actualiza al validar el ticket o editar el evento.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletTicket {
+
+    private UUID ticketId;
+    private UUID userId;
+    private UUID orderId;
+    private UUID eventId;
+    private String eventTitle;
+    private LocalDateTime eventDate;
+    private String venueName;
+    private String venueAddress;
+    private String sectionName;
+    private String row;
+    private String seatNumber;
+    private String tierName;
+    private BigDecimal price;
+    private String currency;
+    private String qrCodeHash;
+    private TicketStatus status;
+    private LocalDateTime scannedAt;
+    private LocalDateTime purchasedAt;
+}
@@ -0,0 +1,28 @@
+package com.neonpass.domain.port.in;
+
+import com.neonpass.domain.port.in.ReserveSeatsUseCase.BatchReservationResult;
+
+import java.util.UUID;
+
+/**
+ * Use Case para reservar los mejores asientos contiguos disponibles de una
+ * sección.
+ */
+public interface HoldBestSeatsUseCase {
+
+        /**
+         * Elige y bloquea {@code quantity} asientos contiguos.
+         *
+         * @param command Datos de la reserva
+         * @return Resultado de la reserva con los asientos elegidos
+         */
+        BatchReservationResult execute(HoldBestSeatsCommand command);
+
+        record HoldBestSeatsCommand(
+                        UUID eventId,
+                        UUID sectionId,
+                        int quantity,
+                        boolean accessibleOnly,
+                        UUID userId) {
+        }
+}
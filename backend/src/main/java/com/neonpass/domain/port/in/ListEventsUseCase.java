@@ -1,13 +1,19 @@
 package com.neonpass.domain.port.in;
 
-import com.neonpass.domain.model.Event;
-
-import java.util.List;
+import com.neonpass.domain.model.EventSummary;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 
 /**
  * Use Case para listar eventos publicados.
  */
 public interface ListEventsUseCase {
 
-    List<Event> execute();
+    /**
+     * Página de eventos publicados por fecha de inicio.
+     *
+     * @param after posición tras la que empieza la página, o null para usar
+     *              {@code page}
+     */
+    PageResult<EventSummary> execute(PageCursor after, int page, int size);
 }
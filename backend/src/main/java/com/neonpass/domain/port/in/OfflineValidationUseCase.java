@@ -0,0 +1,64 @@
+package com.neonpass.domain.port.in;
+
+import com.neonpass.domain.model.enums.ValidationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use Case para validar tickets en puerta sin conexión.
+ *
+ * <p>
+ * El escáner descarga el conjunto de tickets válidos del evento, valida
+ * localmente y, al recuperar la conexión, sube sus escaneos.
+ * </p>
+ */
+public interface OfflineValidationUseCase {
+
+    /**
+     * Tickets del evento en estado VALID en el momento {@code generatedAt}.
+     */
+    ValidationBundle exportBundle(UUID eventId);
+
+    /**
+     * Registra los escaneos hechos sin conexión y devuelve los tickets
+     * canjeados por otras puertas desde {@code since}.
+     */
+    SyncResult sync(SyncCommand command);
+
+    record ValidationBundle(
+            UUID eventId,
+            LocalDateTime generatedAt,
+            List<UUID> ticketIds) {
+    }
+
+    /**
+     * Escaneo con el QR tal como se leyó; el servidor verifica su firma.
+     */
+    record OfflineScan(
+            String qrCodeHash,
+            LocalDateTime scannedAt) {
+    }
+
+    record SyncCommand(
+            UUID eventId,
+            String deviceId,
+            LocalDateTime since, // generatedAt del bundle o syncedAt anterior
+            List<OfflineScan> scans,
+            UUID validatedBy) {
+    }
+
+    record ScanResult(
+            UUID ticketId, // null si el QR no es válido
+            ValidationStatus status,
+            LocalDateTime scannedAt, // Hora de escaneo registrada
+            String message) {
+    }
+
+    record SyncResult(
+            List<ScanResult> results,
+            List<UUID> redeemedElsewhere,
+            LocalDateTime syncedAt) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.neonpass.domain.port.in;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use Case para reservar varios asientos en una sola operación.
+ */
+public interface ReserveSeatsUseCase {
+
+        /**
+         * Reserva todos los asientos o ninguno.
+         *
+         * @param command Datos de la reserva
+         * @return Resultado de la reserva
+         */
+        BatchReservationResult execute(ReserveSeatsCommand command);
+
+        record ReserveSeatsCommand(
+                        UUID eventId,
+                        List<UUID> seatIds,
+                        UUID userId) {
+        }
+
+        record BatchReservationResult(
+                        UUID eventId,
+                        List<UUID> seatIds,
+                        UUID userId,
+                        boolean success,
+                        String message,
+                        int expiresInSeconds) {
+        }
+}
@@ -0,0 +1,27 @@
+package com.neonpass.domain.port.in;
+
+import com.neonpass.domain.model.EventSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use Case para buscar eventos publicados por texto.
+ */
+public interface SearchEventsUseCase {
+
+    /**
+     * Eventos que contienen todos los términos de la consulta, ordenados por
+     * relevancia.
+     */
+    List<EventSummary> search(SearchEventsQuery query);
+
+    record SearchEventsQuery(
+            String text,
+            LocalDateTime from,
+            LocalDateTime to,
+            UUID venueId,
+            int limit) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.neonpass.domain.port.in;
+
+import com.neonpass.domain.port.in.CheckoutUseCase.CheckoutResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use Case para checkout de entradas de admisión general por sección.
+ */
+public interface SectionCheckoutUseCase {
+
+    CheckoutResult execute(SectionCheckoutCommand command);
+
+    record SectionCheckoutCommand(
+            UUID userId,
+            UUID eventId,
+            List<SectionItem> items) {
+    }
+
+    record SectionItem(
+            UUID sectionId,
+            int quantity,
+            BigDecimal pricePerTicket) {
+    }
+}
@@ -2,6 +2,7 @@ package com.neonpass.domain.port.in;
 
 import com.neonpass.domain.model.enums.ValidationStatus;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,6 +12,13 @@ public interface ValidateTicketUseCase {
 
     ValidationResult execute(ValidateTicketCommand command);
 
+    /**
+     * Valida varios QR en una sola transacción. Devuelve un resultado por QR,
+     * en el mismo orden; un ticket ya usado se informa como
+     * {@link ValidationStatus#DUPLICATE_ATTEMPT} en lugar de lanzar excepción.
+     */
+    List<ValidationResult> executeBatch(List<String> qrCodeHashes, UUID validatedBy);
+
     record ValidateTicketCommand(
             String qrCodeHash,
             UUID validatedBy // Staff que valida
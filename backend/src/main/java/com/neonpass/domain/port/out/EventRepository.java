@@ -1,9 +1,14 @@
 package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.EventSummary;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.enums.EventStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +19,12 @@ public interface EventRepository {
 
     Optional<Event> findById(UUID id);
 
+    /**
+     * Busca varios registros por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<Event> findAllById(Collection<UUID> ids);
+
     List<Event> findByOrganizationId(UUID organizationId);
 
     List<Event> findByVenueId(UUID venueId);
@@ -25,7 +36,26 @@ public interface EventRepository {
      */
     List<Event> findPublished();
 
+    /**
+     * Página de eventos publicados por fecha de inicio ascendente, sin cargar
+     * {@code metadata}.
+     *
+     * @param after si no es null, la página empieza tras esta posición
+     *              ({@code startTime}, id) y se ignora {@code page}; si es
+     *              null se usa {@code page} como desplazamiento
+     * @param descriptionLength largo máximo de la descripción devuelta
+     */
+    PageResult<EventSummary> findPublishedSummaries(PageCursor after, int page, int size, int descriptionLength);
+
     List<Event> findAll();
 
     Event save(Event event);
+
+    long count();
+
+    /**
+     * Cuenta los eventos por estado en una sola consulta. Los estados sin
+     * eventos no aparecen en el resultado.
+     */
+    Map<EventStatus, Long> countByStatus();
 }
@@ -1,8 +1,13 @@
 package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.Order;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.enums.OrderStatus;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +19,11 @@ public interface OrderRepository {
 
     Optional<Order> findById(UUID id);
 
+    /**
+     * Busca varias órdenes por ID en una sola consulta.
+     */
+    List<Order> findAllById(Collection<UUID> ids);
+
     List<Order> findByUserId(UUID userId);
 
     List<Order> findByEventId(UUID eventId);
@@ -23,4 +33,39 @@ public interface OrderRepository {
     List<Order> findAll();
 
     Order save(Order order);
+
+    /**
+     * Página de órdenes, de la más reciente a la más antigua, filtrada por
+     * los criterios no nulos.
+     *
+     * @param after si no es null, la página empieza tras esta posición y se
+     *              ignora {@code page}; si es null se usa {@code page} como
+     *              desplazamiento
+     */
+    PageResult<Order> findPage(OrderStatus status, UUID eventId, UUID userId,
+            PageCursor after, int page, int size);
+
+    /**
+     * Número de órdenes y suma de sus montos, calculados en la base de datos.
+     */
+    OrderTotals sumTotals();
+
+    /**
+     * Ventas creadas desde la fecha dada, con la cantidad de tickets de cada
+     * orden, sin cargar las órdenes ni los tickets.
+     */
+    List<OrderSale> findSalesSince(LocalDateTime since);
+
+    /**
+     * Totales de órdenes. Las sumas son cero si no hay órdenes.
+     */
+    record OrderTotals(long orders, BigDecimal totalAmount, BigDecimal platformFee) {
+    }
+
+    /**
+     * Datos de una orden para las series de ventas.
+     */
+    record OrderSale(UUID orderId, UUID eventId, LocalDateTime createdAt, BigDecimal totalAmount,
+            BigDecimal platformFee, long tickets) {
+    }
 }
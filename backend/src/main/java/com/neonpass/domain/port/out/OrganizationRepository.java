@@ -2,6 +2,7 @@ package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.Organization;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +14,12 @@ public interface OrganizationRepository {
 
     Optional<Organization> findById(UUID id);
 
+    /**
+     * Busca varios registros por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<Organization> findAllById(Collection<UUID> ids);
+
     Optional<Organization> findBySlug(String slug);
 
     List<Organization> findByOwnerId(UUID ownerId);
@@ -22,4 +29,6 @@ public interface OrganizationRepository {
     List<Organization> findAll();
 
     boolean existsBySlug(String slug);
+
+    long count();
 }
@@ -0,0 +1,78 @@
+package com.neonpass.domain.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para el bloqueo temporal de asientos.
+ *
+ * <p>
+ * Un bloqueo pertenece a un usuario y expira solo tras el TTL configurado.
+ * Las operaciones que reciben el usuario solo modifican bloqueos propios.
+ * </p>
+ */
+public interface SeatLock {
+
+    /**
+     * Intenta bloquear un asiento para un usuario.
+     *
+     * @return true si el bloqueo fue exitoso, false si ya está bloqueado
+     */
+    boolean lockSeat(UUID eventId, UUID seatId, UUID userId);
+
+    /**
+     * Bloquea todos los asientos o ninguno.
+     *
+     * @return asientos bloqueados por otros usuarios; vacía si el bloqueo fue
+     *         exitoso
+     */
+    List<UUID> lockSeats(UUID eventId, List<UUID> seatIds, UUID userId);
+
+    /**
+     * Libera el bloqueo de un asiento si pertenece al usuario.
+     *
+     * @return true si se borró un bloqueo vigente del usuario; false si el
+     *         asiento no estaba bloqueado o es de otro usuario
+     */
+    boolean unlockSeat(UUID eventId, UUID seatId, UUID userId);
+
+    /**
+     * Libera los bloqueos del usuario sobre varios asientos.
+     *
+     * @return cantidad de bloqueos liberados
+     */
+    int unlockSeats(UUID eventId, List<UUID> seatIds, UUID userId);
+
+    /**
+     * @return ID del usuario que bloqueó el asiento, o null si está libre
+     */
+    UUID getLockedBy(UUID eventId, UUID seatId);
+
+    /**
+     * Devuelve, de entre los asientos indicados, los que están bloqueados por
+     * cualquier usuario. Una sola consulta para todo el conjunto.
+     */
+    Set<UUID> findLockedSeatIds(UUID eventId, Collection<UUID> seatIds);
+
+    /**
+     * Verifica si el asiento está bloqueado por un usuario específico.
+     */
+    default boolean isLockedByUser(UUID eventId, UUID seatId, UUID userId) {
+        return userId.equals(getLockedBy(eventId, seatId));
+    }
+
+    /**
+     * Renueva el TTL del bloqueo si pertenece al usuario.
+     */
+    boolean extendLock(UUID eventId, UUID seatId, UUID userId);
+
+    /**
+     * Renueva el TTL de todos los bloqueos del usuario o de ninguno.
+     *
+     * @return asientos que no están bloqueados por el usuario; vacía si se
+     *         extendieron todos
+     */
+    List<UUID> extendLocks(UUID eventId, List<UUID> seatIds, UUID userId);
+}
@@ -2,6 +2,7 @@ package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.Seat;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,17 @@ public interface SeatRepository {
 
     List<Seat> findBySectionId(UUID sectionId);
 
+    /**
+     * Busca varios asientos por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<Seat> findAllById(Collection<UUID> ids);
+
+    /**
+     * Busca los asientos de varias secciones en una sola consulta.
+     */
+    List<Seat> findBySectionIdIn(Collection<UUID> sectionIds);
+
     /**
      * Busca asientos disponibles para un evento específico.
      * 
@@ -0,0 +1,40 @@
+package com.neonpass.domain.port.out;
+
+import java.util.UUID;
+
+/**
+ * Puerto de salida para los contadores de entradas vendidas de secciones de
+ * admisión general.
+ *
+ * <p>
+ * Cada contador guarda las entradas tomadas para una sección en un evento.
+ * Tomar entradas compara contra la capacidad y suma en una sola operación
+ * atómica, de modo que compras concurrentes no pueden superar la capacidad.
+ * </p>
+ */
+public interface SectionInventory {
+
+    enum AcquireResult {
+        /** Entradas tomadas */
+        ACQUIRED,
+        /** No hay capacidad suficiente; el contador no cambió */
+        SOLD_OUT,
+        /** El contador no existe; hay que inicializarlo y reintentar */
+        NOT_INITIALIZED
+    }
+
+    /**
+     * Toma {@code quantity} entradas si la suma no supera {@code capacity}.
+     */
+    AcquireResult tryAcquire(UUID eventId, UUID sectionId, int quantity, int capacity);
+
+    /**
+     * Crea el contador con las entradas ya vendidas. Sin efecto si ya existe.
+     */
+    void initialize(UUID eventId, UUID sectionId, long sold);
+
+    /**
+     * Devuelve entradas tomadas (compensación de una compra fallida).
+     */
+    void release(UUID eventId, UUID sectionId, int quantity);
+}
@@ -2,6 +2,7 @@ package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.Section;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +14,12 @@ public interface SectionRepository {
 
     Optional<Section> findById(UUID id);
 
+    /**
+     * Busca varios registros por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<Section> findAllById(Collection<UUID> ids);
+
     List<Section> findByVenueId(UUID venueId);
 
     Section save(Section section);
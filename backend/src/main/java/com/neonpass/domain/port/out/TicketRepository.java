@@ -3,7 +3,10 @@ package com.neonpass.domain.port.out;
 import com.neonpass.domain.model.Ticket;
 import com.neonpass.domain.model.enums.TicketStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,10 +17,28 @@ public interface TicketRepository {
 
     Optional<Ticket> findById(UUID id);
 
+    /**
+     * Busca varios registros por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<Ticket> findAllById(Collection<UUID> ids);
+
     List<Ticket> findByOrderId(UUID orderId);
 
+    /**
+     * Busca los tickets de varias órdenes en una sola consulta.
+     */
+    List<Ticket> findByOrderIdIn(Collection<UUID> orderIds);
+
     List<Ticket> findByEventId(UUID eventId);
 
+    /**
+     * Tickets sin fila en la billetera, ordenados por ID a partir de
+     * {@code after} (exclusivo). Quedan bloqueados contra cambios hasta que
+     * termine la transacción en curso.
+     */
+    List<Ticket> findMissingFromWallet(UUID after, int limit);
+
     /**
      * Busca un ticket por su hash de código QR.
      * Usado en la validación en puerta.
@@ -35,7 +56,69 @@ public interface TicketRepository {
      */
     boolean existsByEventIdAndSeatIdAndStatusIn(UUID eventId, UUID seatId, List<TicketStatus> statuses);
 
+    /**
+     * Devuelve los asientos de un evento que tienen un ticket en alguno de
+     * los estados dados, sin cargar los tickets.
+     */
+    List<UUID> findSeatIdsByEventIdAndStatusIn(UUID eventId, List<TicketStatus> statuses);
+
+    /**
+     * Igual que {@link #findSeatIdsByEventIdAndStatusIn} pero restringido a
+     * los asientos indicados. Usado para validar reservas múltiples en una
+     * sola consulta.
+     */
+    List<UUID> findSeatIdsByEventIdAndSeatIdInAndStatusIn(
+            UUID eventId, Collection<UUID> seatIds, List<TicketStatus> statuses);
+
+    /**
+     * Cuenta los tickets de admisión general de una sección en alguno de los
+     * estados dados.
+     */
+    long countByEventIdAndSectionIdAndStatusIn(UUID eventId, UUID sectionId, List<TicketStatus> statuses);
+
+    /**
+     * Cuenta los tickets de varias órdenes en una sola consulta. Las órdenes
+     * sin tickets no aparecen en el resultado.
+     */
+    Map<UUID, Long> countByOrderIdIn(Collection<UUID> orderIds);
+
+    /**
+     * Pasa un ticket de VALID a USED y registra su validación exitosa en una
+     * sola sentencia. Si dos puertas escanean el mismo ticket a la vez, solo
+     * una lo obtiene.
+     *
+     * @return el ticket ya marcado como usado, o vacío si no existe o no
+     *         estaba VALID
+     */
+    Optional<Ticket> redeem(UUID ticketId, UUID validatedBy, LocalDateTime scannedAt);
+
+    /**
+     * Igual que {@link #redeem} para varios tickets en una sola sentencia.
+     *
+     * @return los tickets que estaban VALID, ya marcados como usados
+     */
+    List<Ticket> redeemAll(Collection<UUID> ticketIds, UUID validatedBy, LocalDateTime scannedAt);
+
+    /**
+     * Canjea escaneos hechos sin conexión, cada uno con su hora, en una sola
+     * sentencia. Solo se canjean tickets del evento que siguen VALID; las
+     * validaciones se registran con hora {@code syncedAt}.
+     *
+     * @param scans            hora de escaneo por ticket
+     * @param locationMetadata JSON guardado en cada validación
+     * @return los tickets canjeados
+     */
+    List<Ticket> redeemOffline(UUID eventId, Map<UUID, LocalDateTime> scans, UUID validatedBy,
+            LocalDateTime syncedAt, String locationMetadata);
+
+    /**
+     * IDs de los tickets de un evento en un estado, sin cargar los tickets.
+     */
+    List<UUID> findIdsByEventIdAndStatus(UUID eventId, TicketStatus status);
+
     List<Ticket> findAll();
 
     Ticket save(Ticket ticket);
+
+    long count();
 }
@@ -2,6 +2,7 @@ package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.TicketTier;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +14,12 @@ public interface TicketTierRepository {
 
     Optional<TicketTier> findById(UUID id);
 
+    /**
+     * Busca varios registros por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<TicketTier> findAllById(Collection<UUID> ids);
+
     List<TicketTier> findByEventId(UUID eventId);
 
     List<TicketTier> findBySectionId(UUID sectionId);
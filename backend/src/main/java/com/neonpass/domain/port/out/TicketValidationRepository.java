@@ -2,6 +2,7 @@ package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.TicketValidation;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +20,10 @@ public interface TicketValidationRepository {
     List<TicketValidation> findByTicketId(UUID ticketId);
 
     TicketValidation save(TicketValidation validation);
+
+    /**
+     * Tickets de un evento con una validación exitosa registrada desde
+     * {@code since} (inclusive), por cualquier puerta.
+     */
+    List<UUID> findTicketIdsValidatedSince(UUID eventId, LocalDateTime since);
 }
@@ -1,8 +1,13 @@
 package com.neonpass.domain.port.out;
 
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.User;
+import com.neonpass.domain.model.enums.UserRole;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,9 +20,32 @@ public interface UserRepository {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Busca varios usuarios por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<User> findAllById(Collection<UUID> ids);
+
     List<User> findAll();
 
     User save(User user);
 
     boolean existsByEmail(String email);
+
+    long count();
+
+    /**
+     * Cuenta los usuarios por rol en una sola consulta. Los roles sin
+     * usuarios no aparecen en el resultado.
+     */
+    Map<UserRole, Long> countByRole();
+
+    /**
+     * Página de usuarios, del más reciente al más antiguo.
+     *
+     * @param after si no es null, la página empieza tras esta posición y se
+     *              ignora {@code page}; si es null se usa {@code page} como
+     *              desplazamiento
+     */
+    PageResult<User> findPage(PageCursor after, int page, int size);
 }
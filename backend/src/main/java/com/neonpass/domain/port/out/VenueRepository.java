@@ -2,6 +2,7 @@ package com.neonpass.domain.port.out;
 
 import com.neonpass.domain.model.Venue;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,9 +14,17 @@ public interface VenueRepository {
 
     Optional<Venue> findById(UUID id);
 
+    /**
+     * Busca varios registros por ID en una sola consulta.
+     * Los IDs inexistentes se omiten del resultado.
+     */
+    List<Venue> findAllById(Collection<UUID> ids);
+
     List<Venue> findByOrganizationId(UUID organizationId);
 
     Venue save(Venue venue);
 
     List<Venue> findAll();
+
+    long count();
 }
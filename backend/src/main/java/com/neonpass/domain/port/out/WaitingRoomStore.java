@@ -0,0 +1,62 @@
+package com.neonpass.domain.port.out;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para el estado de las salas de espera.
+ *
+ * <p>
+ * Una sala emite números de fila consecutivos por evento y admite números en
+ * orden a un ritmo fijo. Todos los nodos que atienden un evento ven la misma
+ * sala: el número emitido, la frontera de admisión y la hora de admisión de
+ * cada número los resuelve el store.
+ * </p>
+ */
+public interface WaitingRoomStore {
+
+    /**
+     * Lugar de un número en la fila.
+     *
+     * @param ahead      números por delante de la frontera (0 si ya fue
+     *                   admitido)
+     * @param rate       admisiones por segundo
+     * @param admittedAt epoch ms en que el número se vio admitido por primera
+     *                   vez, o 0 si todavía espera
+     */
+    record Turn(long ahead, int rate, long admittedAt) {
+
+        public boolean admitted() {
+            return ahead <= 0;
+        }
+    }
+
+    /**
+     * Abre la sala de un evento o cambia su ritmo de admisión.
+     */
+    void open(UUID eventId, int admissionsPerSecond);
+
+    /**
+     * Cierra la sala y descarta su fila.
+     */
+    void close(UUID eventId);
+
+    boolean isOpen(UUID eventId);
+
+    /**
+     * Emite el siguiente número de la fila.
+     *
+     * @return el número, o vacío si el evento no tiene sala abierta
+     */
+    OptionalLong issue(UUID eventId);
+
+    /**
+     * Avanza la frontera y ubica el número. La primera vez que el número
+     * resulta admitido se registra la hora; las consultas siguientes devuelven
+     * esa misma hora.
+     *
+     * @return vacío si el evento no tiene sala abierta
+     */
+    Optional<Turn> turn(UUID eventId, long number);
+}
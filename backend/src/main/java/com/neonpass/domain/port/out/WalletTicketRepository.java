@@ -0,0 +1,45 @@
+package com.neonpass.domain.port.out;
+
+import com.neonpass.domain.model.WalletTicket;
+import com.neonpass.domain.model.enums.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para el modelo de lectura de la billetera.
+ */
+public interface WalletTicketRepository {
+
+    Optional<WalletTicket> findByTicketId(UUID ticketId);
+
+    /**
+     * Tickets del usuario ordenados por fecha de compra.
+     */
+    List<WalletTicket> findByUserId(UUID userId);
+
+    /**
+     * Inserta las filas de tickets que aún no están en la billetera; las
+     * existentes no se modifican.
+     */
+    void insertMissing(List<WalletTicket> tickets);
+
+    /**
+     * Actualiza el estado de un ticket sin cargarlo.
+     */
+    void updateStatus(UUID ticketId, TicketStatus status, LocalDateTime scannedAt);
+
+    /**
+     * Actualiza el estado de varios tickets en una sola sentencia.
+     */
+    void updateStatusIn(Collection<UUID> ticketIds, TicketStatus status, LocalDateTime scannedAt);
+
+    /**
+     * Actualiza los datos de evento y venue de todos los tickets del evento.
+     */
+    void updateEventInfo(UUID eventId, String eventTitle, LocalDateTime eventDate,
+            String venueName, String venueAddress);
+}
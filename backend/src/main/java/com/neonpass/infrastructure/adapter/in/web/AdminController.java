@@ -1,17 +1,22 @@
 package com.neonpass.infrastructure.adapter.in.web;
 
 import com.neonpass.application.service.AdminService;
+import com.neonpass.application.service.OrderSummaryService;
+import com.neonpass.application.service.PlatformMetricsService;
+import com.neonpass.application.service.PlatformMetricsService.Granularity;
+import com.neonpass.application.service.WaitingRoomService;
 import com.neonpass.domain.model.Order;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.User;
 import com.neonpass.domain.model.enums.OrderStatus;
-import com.neonpass.domain.port.out.EventRepository;
 import com.neonpass.domain.port.out.OrderRepository;
-import com.neonpass.domain.port.out.TicketRepository;
-import com.neonpass.domain.port.out.UserRepository;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.ChangeRoleRequest;
+import com.neonpass.infrastructure.adapter.in.web.dto.request.WaitingRoomConfigRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.AdminDashboardResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.OrderResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.PageResponse;
+import com.neonpass.infrastructure.adapter.in.web.dto.response.SalesBucketResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.UserResponse;
 import com.neonpass.infrastructure.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,10 +25,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -42,9 +50,14 @@ public class AdminController {
 
         private final AdminService adminService;
         private final OrderRepository orderRepository;
-        private final UserRepository userRepository;
-        private final EventRepository eventRepository;
-        private final TicketRepository ticketRepository;
+        private final OrderSummaryService orderSummaryService;
+        private final WaitingRoomService waitingRoomService;
+        private final PlatformMetricsService platformMetricsService;
+
+        private static final int MAX_PAGE_SIZE = 100;
+
+        @Value("${waiting-room.default-admissions-per-second:50}")
+        private int defaultAdmissionsPerSecond;
 
         @GetMapping("/dashboard")
         @Operation(summary = "Dashboard", description = "Obtiene estadísticas generales de la plataforma")
@@ -53,24 +66,59 @@ public class AdminController {
                 return ResponseEntity.ok(ApiResponse.success(dashboard));
         }
 
+        @GetMapping("/metrics/sales")
+        @Operation(summary = "Serie de ventas", description = "Ventas por minuto, hora o día de un evento o de toda la plataforma")
+        public ResponseEntity<ApiResponse<List<SalesBucketResponse>>> getSalesSeries(
+                        @Parameter(description = "Evento (omitir para toda la plataforma)") @RequestParam(required = false) UUID eventId,
+                        @Parameter(description = "MINUTE, HOUR o DAY") @RequestParam(defaultValue = "HOUR") Granularity granularity,
+                        @Parameter(description = "Desde (por defecto 60 buckets atrás)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                        @Parameter(description = "Hasta (por defecto ahora)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+                LocalDateTime end = to != null ? to : LocalDateTime.now();
+                LocalDateTime start = from != null ? from : switch (granularity) {
+                        case MINUTE -> end.minusMinutes(60);
+                        case HOUR -> end.minusHours(60);
+                        case DAY -> end.minusDays(60);
+                };
+                if (start.isAfter(end)) {
+                        throw new IllegalArgumentException("'from' debe ser anterior a 'to'");
+                }
+
+                List<SalesBucketResponse> buckets = platformMetricsService.getSales(eventId, granularity, start, end)
+                                .stream()
+                                .map(bucket -> SalesBucketResponse.builder()
+                                                .start(bucket.start())
+                                                .orders(bucket.orders())
+                                                .tickets(bucket.tickets())
+                                                .revenue(bucket.revenue())
+                                                .platformFees(bucket.platformFees())
+                                                .build())
+                                .collect(Collectors.toList());
+
+                return ResponseEntity.ok(ApiResponse.success(buckets));
+        }
+
         @GetMapping("/users")
-        @Operation(summary = "Listar usuarios", description = "Lista todos los usuarios con paginación")
+        @Operation(summary = "Listar usuarios", description = "Lista los usuarios del más reciente al más antiguo, por número de página o por cursor")
         public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> getAllUsers(
                         @Parameter(description = "Número de página (0-indexed)") @RequestParam(defaultValue = "0") int page,
-                        @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size) {
+                        @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size,
+                        @Parameter(description = "Cursor de la página anterior (nextCursor)") @RequestParam(required = false) String cursor) {
 
-                List<User> allUsers = adminService.getAllUsers();
+                validatePage(page, size);
+                PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+                PageResult<User> users = adminService.getUsers(after, page, size);
 
-                List<UserResponse> pagedUsers = allUsers.stream()
-                                .skip((long) page * size)
-                                .limit(size)
+                List<UserResponse> content = users.content().stream()
                                 .map(this::toUserResponse)
                                 .collect(Collectors.toList());
 
-                PageResponse<UserResponse> pageResponse = PageResponse.of(
-                                pagedUsers, page, size, allUsers.size());
+                String nextCursor = users.content().size() == size
+                                ? nextCursor(users.content().get(size - 1).getCreatedAt(), users.content().get(size - 1).getId())
+                                : null;
 
-                return ResponseEntity.ok(ApiResponse.success(pageResponse));
+                return ResponseEntity.ok(ApiResponse.success(
+                                PageResponse.of(content, page, size, users.totalElements(), nextCursor)));
         }
 
         @GetMapping("/users/{userId}")
@@ -98,50 +146,52 @@ public class AdminController {
                 return ResponseEntity.noContent().build();
         }
 
+        // ==========================================
+        // WAITING ROOM
+        // ==========================================
+
+        @PutMapping("/waiting-room/{eventId}")
+        @Operation(summary = "Configurar sala de espera", description = "Abre la sala de espera de un evento con su ritmo de admisión, o la cierra")
+        public ResponseEntity<ApiResponse<Void>> configureWaitingRoom(
+                        @PathVariable UUID eventId,
+                        @Valid @RequestBody WaitingRoomConfigRequest request) {
+
+                if (Boolean.TRUE.equals(request.getEnabled())) {
+                        waitingRoomService.open(eventId, request.getAdmissionsPerSecond() != null
+                                        ? request.getAdmissionsPerSecond()
+                                        : defaultAdmissionsPerSecond);
+                } else {
+                        waitingRoomService.close(eventId);
+                }
+                return ResponseEntity.ok(ApiResponse.success(null));
+        }
+
         // ==========================================
         // ORDERS MANAGEMENT
         // ==========================================
 
         @GetMapping("/orders")
-        @Operation(summary = "Listar órdenes", description = "Lista todas las órdenes con filtros y paginación")
+        @Operation(summary = "Listar órdenes", description = "Lista las órdenes de la más reciente a la más antigua, con filtros y paginación por número de página o por cursor")
         public ResponseEntity<ApiResponse<PageResponse<OrderResponse>>> getAllOrders(
                         @Parameter(description = "Filtrar por estado") @RequestParam(required = false) OrderStatus status,
                         @Parameter(description = "Filtrar por evento") @RequestParam(required = false) UUID eventId,
                         @Parameter(description = "Filtrar por usuario") @RequestParam(required = false) UUID userId,
                         @Parameter(description = "Número de página (0-indexed)") @RequestParam(defaultValue = "0") int page,
-                        @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size) {
+                        @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size,
+                        @Parameter(description = "Cursor de la página anterior (nextCursor)") @RequestParam(required = false) String cursor) {
 
-                List<Order> allOrders = orderRepository.findAll();
+                validatePage(page, size);
+                PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+                PageResult<Order> orders = orderRepository.findPage(status, eventId, userId, after, page, size);
 
-                // Aplicar filtros
-                if (status != null) {
-                        allOrders = allOrders.stream()
-                                        .filter(o -> status.equals(o.getStatus()))
-                                        .collect(Collectors.toList());
-                }
-                if (eventId != null) {
-                        allOrders = allOrders.stream()
-                                        .filter(o -> eventId.equals(o.getEventId()))
-                                        .collect(Collectors.toList());
-                }
-                if (userId != null) {
-                        allOrders = allOrders.stream()
-                                        .filter(o -> userId.equals(o.getUserId()))
-                                        .collect(Collectors.toList());
-                }
-
-                // Ordenar por fecha de creación descendente
-                allOrders.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+                List<OrderResponse> content = orderSummaryService.summarize(orders.content(), true);
 
-                // Paginar
-                List<OrderResponse> pagedOrders = allOrders.stream()
-                                .skip((long) page * size)
-                                .limit(size)
-                                .map(this::toOrderResponse)
-                                .collect(Collectors.toList());
+                String nextCursor = orders.content().size() == size
+                                ? nextCursor(orders.content().get(size - 1).getCreatedAt(), orders.content().get(size - 1).getId())
+                                : null;
 
                 PageResponse<OrderResponse> pageResponse = PageResponse.of(
-                                pagedOrders, page, size, allOrders.size());
+                                content, page, size, orders.totalElements(), nextCursor);
 
                 return ResponseEntity.ok(ApiResponse.success(pageResponse));
         }
@@ -150,10 +200,22 @@ public class AdminController {
         @Operation(summary = "Obtener orden", description = "Obtiene una orden por ID")
         public ResponseEntity<ApiResponse<OrderResponse>> getOrder(@PathVariable UUID orderId) {
                 return orderRepository.findById(orderId)
-                                .map(order -> ResponseEntity.ok(ApiResponse.success(toOrderResponse(order))))
+                                .map(order -> ResponseEntity.ok(ApiResponse.success(
+                                                orderSummaryService.summarize(List.of(order), true).get(0))))
                                 .orElse(ResponseEntity.notFound().build());
         }
 
+        private void validatePage(int page, int size) {
+                if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                        throw new IllegalArgumentException(
+                                        "page debe ser >= 0 y size entre 1 y " + MAX_PAGE_SIZE);
+                }
+        }
+
+        private String nextCursor(LocalDateTime createdAt, UUID id) {
+                return createdAt != null ? PageCursor.of(createdAt, id).encode() : null;
+        }
+
         private UserResponse toUserResponse(User user) {
                 return UserResponse.builder()
                                 .id(user.getId())
@@ -163,37 +225,4 @@ public class AdminController {
                                 .createdAt(user.getCreatedAt())
                                 .build();
         }
-
-        private OrderResponse toOrderResponse(Order order) {
-                // Obtener info adicional
-                String userEmail = null;
-                String userName = null;
-                User user = userRepository.findById(order.getUserId()).orElse(null);
-                if (user != null) {
-                        userEmail = user.getEmail();
-                        userName = user.getFullName();
-                }
-
-                String eventTitle = eventRepository.findById(order.getEventId())
-                                .map(e -> e.getTitle())
-                                .orElse(null);
-
-                int ticketCount = ticketRepository.findByOrderId(order.getId()).size();
-
-                return OrderResponse.builder()
-                                .id(order.getId())
-                                .userId(order.getUserId())
-                                .eventId(order.getEventId())
-                                .status(order.getStatus())
-                                .totalAmount(order.getTotalAmount())
-                                .platformFee(order.getPlatformFee())
-                                .netAmount(order.getNetAmount())
-                                .currency(order.getCurrency())
-                                .createdAt(order.getCreatedAt())
-                                .userEmail(userEmail)
-                                .userName(userName)
-                                .eventTitle(eventTitle)
-                                .ticketCount(ticketCount)
-                                .build();
-        }
 }
@@ -1,14 +1,20 @@
 package com.neonpass.infrastructure.adapter.in.web;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neonpass.application.service.EventCatalogCache;
+import com.neonpass.application.service.EventMetadataService;
+import com.neonpass.application.service.EventSearchIndex;
+import com.neonpass.application.service.MyTicketService;
+import com.neonpass.application.service.PlatformMetricsService;
 import com.neonpass.domain.model.Event;
-import com.neonpass.domain.model.Venue;
+import com.neonpass.domain.model.EventMetadata;
+import com.neonpass.domain.model.EventSummary;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.port.in.CreateEventUseCase;
 import com.neonpass.domain.port.in.GetEventUseCase;
 import com.neonpass.domain.port.in.ListEventsUseCase;
+import com.neonpass.domain.port.in.SearchEventsUseCase;
 import com.neonpass.domain.port.out.EventRepository;
-import com.neonpass.domain.port.out.VenueRepository;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.EventRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.EventResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.EventSummaryResponse;
@@ -20,12 +26,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -43,8 +51,15 @@ public class EventController {
     private final GetEventUseCase getEventUseCase;
     private final ListEventsUseCase listEventsUseCase;
     private final EventRepository eventRepository;
-    private final VenueRepository venueRepository;
-    private final ObjectMapper objectMapper;
+    private final EventMetadataService eventMetadataService;
+    private final MyTicketService myTicketService;
+    private final PlatformMetricsService platformMetricsService;
+    private final EventCatalogCache eventCatalogCache;
+    private final SearchEventsUseCase searchEventsUseCase;
+    private final EventSearchIndex eventSearchIndex;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 50;
 
     @PostMapping
     @Operation(summary = "Crear evento", description = "Crea un nuevo evento")
@@ -71,33 +86,50 @@ public class EventController {
     public ResponseEntity<ApiResponse<EventResponse>> getEvent(
             @PathVariable UUID eventId) {
 
-        Event event = getEventUseCase.execute(eventId);
+        EventCatalogCache.Cached<EventResponse> cached = eventCatalogCache.getEvent(eventId,
+                () -> toFullResponse(getEventUseCase.execute(eventId)));
 
-        return ResponseEntity.ok(ApiResponse.success(toFullResponse(event)));
+        return cachedResponse(cached);
     }
 
     @GetMapping
-    @Operation(summary = "Listar eventos", description = "Lista eventos publicados con paginación")
+    @Operation(summary = "Listar eventos", description = "Lista eventos publicados por fecha de inicio, por número de página o por cursor")
     public ResponseEntity<ApiResponse<PageResponse<EventSummaryResponse>>> listEvents(
             @Parameter(description = "Número de página (0-indexed)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor de la página anterior (nextCursor)") @RequestParam(required = false) String cursor) {
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page debe ser >= 0 y size entre 1 y " + MAX_PAGE_SIZE);
+        }
 
-        List<Event> allEvents = listEventsUseCase.execute();
+        PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+        EventCatalogCache.Cached<PageResponse<EventSummaryResponse>> cached = eventCatalogCache.getListing(
+                after != null ? after.encode() : null, page, size,
+                () -> loadListing(after, page, size));
 
-        // Paginación manual (en producción usarías Pageable)
-        int start = page * size;
-        int end = Math.min(start + size, allEvents.size());
+        return cachedResponse(cached);
+    }
 
-        List<EventSummaryResponse> pagedEvents = allEvents.stream()
-                .skip(start)
-                .limit(size)
+    @GetMapping("/search")
+    @Operation(summary = "Buscar eventos", description = "Busca eventos publicados por título, descripción, venue u organización. Acepta prefijos y errores de tipeo; resultados ordenados por relevancia")
+    public ResponseEntity<ApiResponse<List<EventSummaryResponse>>> searchEvents(
+            @Parameter(description = "Texto a buscar") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Inicio desde") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Inicio hasta") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "ID del venue") @RequestParam(required = false) UUID venueId,
+            @Parameter(description = "Máximo de resultados") @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit debe estar entre 1 y " + MAX_SEARCH_RESULTS);
+        }
+
+        List<EventSummaryResponse> results = searchEventsUseCase
+                .search(new SearchEventsUseCase.SearchEventsQuery(q, from, to, venueId, limit)).stream()
                 .map(this::toSummaryResponse)
                 .collect(Collectors.toList());
 
-        PageResponse<EventSummaryResponse> pageResponse = PageResponse.of(
-                pagedEvents, page, size, allEvents.size());
-
-        return ResponseEntity.ok(ApiResponse.success(pageResponse));
+        return ResponseEntity.ok(ApiResponse.success(results));
     }
 
     @PutMapping("/{eventId}")
@@ -123,22 +155,54 @@ public class EventController {
                 .status(request.getStatus() != null ? request.getStatus() : existingEvent.getStatus())
                 .metadata(request.getMetadata() != null ? request.getMetadata() : existingEvent.getMetadata())
                 .createdAt(existingEvent.getCreatedAt())
-                .updatedAt(java.time.LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
                 .deleted(existingEvent.getDeleted())
                 .build();
 
         // Save using repository (inject it)
         Event savedEvent = eventRepository.save(updatedEvent);
+        myTicketService.refreshEvent(savedEvent);
+        eventCatalogCache.invalidateEvent(savedEvent.getId());
+        eventSearchIndex.indexEvent(savedEvent);
+        platformMetricsService.recordEventStatusChange(existingEvent.getStatus(), savedEvent.getStatus());
 
         return ResponseEntity.ok(ApiResponse.success(toFullResponse(savedEvent)));
     }
 
+    private PageResponse<EventSummaryResponse> loadListing(PageCursor after, int page, int size) {
+        PageResult<EventSummary> events = listEventsUseCase.execute(after, page, size);
+
+        List<EventSummaryResponse> content = events.content().stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (content.size() == size) {
+            EventSummary last = events.content().get(size - 1);
+            nextCursor = PageCursor.of(last.getStartTime(), last.getId()).encode();
+        }
+
+        return PageResponse.of(content, page, size, events.totalElements(), nextCursor);
+    }
+
+    /**
+     * Responde con el ETag de la entrada; Spring contesta 304 sin cuerpo si
+     * coincide con {@code If-None-Match}. {@code no-cache} reemplaza el
+     * {@code no-store} por defecto de Spring Security para que el cliente
+     * pueda revalidar.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> cachedResponse(EventCatalogCache.Cached<T> cached) {
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(cached.value()));
+    }
+
     /**
      * Convierte Event a respuesta completa con imágenes.
      */
     private EventResponse toFullResponse(Event event) {
-        EventResponse.EventImagesResponse images = extractImages(event.getMetadata());
-        Map<String, Object> metadata = parseMetadata(event.getMetadata());
+        EventMetadata metadata = eventMetadataService.of(event);
 
         return EventResponse.builder()
                 .id(event.getId())
@@ -150,27 +214,24 @@ public class EventController {
                 .endTime(event.getEndTime())
                 .status(event.getStatus())
                 .createdAt(event.getCreatedAt())
-                .images(images)
-                .metadata(metadata)
+                .images(toImagesResponse(metadata))
+                .metadata(metadata.getValues())
                 .build();
     }
 
     /**
      * Convierte Event a respuesta resumida para cards.
      */
-    private EventSummaryResponse toSummaryResponse(Event event) {
-        String thumbnailUrl = extractThumbnailUrl(event.getMetadata());
-        String venueName = getVenueName(event.getVenueId());
-
+    private EventSummaryResponse toSummaryResponse(EventSummary event) {
         return EventSummaryResponse.builder()
                 .id(event.getId())
                 .title(event.getTitle())
-                .description(truncateDescription(event.getDescription(), 150))
+                .description(truncateDescription(event.getDescription(), EventSummary.DESCRIPTION_LENGTH))
                 .startTime(event.getStartTime())
                 .endTime(event.getEndTime())
                 .status(event.getStatus())
-                .thumbnailUrl(thumbnailUrl)
-                .venueName(venueName)
+                .thumbnailUrl(event.getThumbnailUrl())
+                .venueName(event.getVenueName())
                 .build();
     }
 
@@ -182,104 +243,25 @@ public class EventController {
         return description.substring(0, maxLength) + "...";
     }
 
-    private String getVenueName(UUID venueId) {
-        if (venueId == null)
-            return null;
-        return venueRepository.findById(venueId)
-                .map(Venue::getName)
-                .orElse(null);
-    }
-
-    @SuppressWarnings("unchecked")
-    private EventResponse.EventImagesResponse extractImages(String metadataJson) {
-        if (metadataJson == null || metadataJson.isBlank()) {
-            return null;
-        }
-
-        try {
-            Map<String, Object> metadata = objectMapper.readValue(metadataJson, new TypeReference<>() {
-            });
-            Map<String, Object> media = (Map<String, Object>) metadata.get("media");
-            if (media == null)
-                return null;
-
-            Map<String, Object> images = (Map<String, Object>) media.get("images");
-            if (images == null)
-                return null;
-
-            EventResponse.ImageInfo banner = extractImageInfo((Map<String, Object>) images.get("banner"));
-            EventResponse.ImageInfo thumbnail = extractImageInfo((Map<String, Object>) images.get("thumbnail"));
-
-            if (banner == null && thumbnail == null)
-                return null;
-
-            return EventResponse.EventImagesResponse.builder()
-                    .banner(banner)
-                    .thumbnail(thumbnail)
-                    .build();
-
-        } catch (Exception e) {
-            log.warn("Error parsing event images from metadata", e);
+    private EventResponse.EventImagesResponse toImagesResponse(EventMetadata metadata) {
+        if (metadata.getBanner() == null && metadata.getThumbnail() == null) {
             return null;
         }
+        return EventResponse.EventImagesResponse.builder()
+                .banner(toImageInfo(metadata.getBanner()))
+                .thumbnail(toImageInfo(metadata.getThumbnail()))
+                .build();
     }
 
-    @SuppressWarnings("unchecked")
-    private EventResponse.ImageInfo extractImageInfo(Map<String, Object> imageData) {
-        if (imageData == null)
+    private EventResponse.ImageInfo toImageInfo(EventMetadata.EventImage image) {
+        if (image == null)
             return null;
 
         return EventResponse.ImageInfo.builder()
-                .url((String) imageData.get("url"))
-                .width(imageData.get("width") != null ? ((Number) imageData.get("width")).intValue() : null)
-                .height(imageData.get("height") != null ? ((Number) imageData.get("height")).intValue() : null)
-                .transformations((Map<String, String>) imageData.get("transformations"))
+                .url(image.getUrl())
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .transformations(image.getTransformations())
                 .build();
     }
-
-    @SuppressWarnings("unchecked")
-    private String extractThumbnailUrl(String metadataJson) {
-        if (metadataJson == null || metadataJson.isBlank()) {
-            return null;
-        }
-
-        try {
-            Map<String, Object> metadata = objectMapper.readValue(metadataJson, new TypeReference<>() {
-            });
-            Map<String, Object> media = (Map<String, Object>) metadata.get("media");
-            if (media == null)
-                return null;
-
-            Map<String, Object> images = (Map<String, Object>) media.get("images");
-            if (images == null)
-                return null;
-
-            // Intentar thumbnail primero, luego banner
-            Map<String, Object> thumbnail = (Map<String, Object>) images.get("thumbnail");
-            if (thumbnail != null && thumbnail.get("url") != null) {
-                return (String) thumbnail.get("url");
-            }
-
-            Map<String, Object> banner = (Map<String, Object>) images.get("banner");
-            if (banner != null && banner.get("url") != null) {
-                return (String) banner.get("url");
-            }
-
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private Map<String, Object> parseMetadata(String metadataJson) {
-        if (metadataJson == null || metadataJson.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(metadataJson, new TypeReference<>() {
-            });
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
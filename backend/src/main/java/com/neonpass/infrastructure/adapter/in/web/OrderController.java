@@ -1,15 +1,12 @@
 package com.neonpass.infrastructure.adapter.in.web;
 
-import com.neonpass.application.service.TicketService;
+import com.neonpass.application.service.OrderSummaryService;
+import com.neonpass.application.service.WaitingRoomService;
 import com.neonpass.domain.model.Order;
-import com.neonpass.domain.model.Ticket;
-import com.neonpass.domain.model.enums.OrderStatus;
 import com.neonpass.domain.port.in.CheckoutUseCase;
 import com.neonpass.domain.port.in.GetOrderUseCase;
 import com.neonpass.domain.port.in.GetUserOrdersUseCase;
-import com.neonpass.domain.port.out.EventRepository;
-import com.neonpass.domain.port.out.OrderRepository;
-import com.neonpass.domain.port.out.TicketRepository;
+import com.neonpass.domain.port.in.SectionCheckoutUseCase;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.CheckoutRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.SectionCheckoutRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.CheckoutResponse;
@@ -25,12 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST para órdenes y checkout.
@@ -43,67 +36,39 @@ import java.util.stream.Collectors;
 public class OrderController {
 
         private final CheckoutUseCase checkoutUseCase;
+        private final SectionCheckoutUseCase sectionCheckoutUseCase;
+        private final WaitingRoomService waitingRoomService;
         private final GetOrderUseCase getOrderUseCase;
         private final GetUserOrdersUseCase getUserOrdersUseCase;
-        private final OrderRepository orderRepository;
-        private final EventRepository eventRepository;
-        private final TicketRepository ticketRepository;
-        private final TicketService ticketService;
+        private final OrderSummaryService orderSummaryService;
 
         @PostMapping("/checkout")
         @Operation(summary = "Procesar checkout por sección", description = "Crear orden basada en selección de secciones y cantidades")
         public ResponseEntity<ApiResponse<CheckoutResponse>> checkout(
                         @Valid @RequestBody SectionCheckoutRequest request,
+                        @RequestHeader(value = WaitingRoomService.ADMISSION_HEADER, required = false) String admissionToken,
                         @AuthenticationPrincipal UUID userId) {
 
-                // Calculate total from items
-                BigDecimal total = request.getItems().stream()
-                                .map(item -> item.getPricePerTicket().multiply(BigDecimal.valueOf(item.getQuantity())))
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                waitingRoomService.requireAdmission(admissionToken, request.getEventId(), userId);
 
-                // Add platform fee (10%)
-                BigDecimal platformFee = total.multiply(BigDecimal.valueOf(0.10));
-                BigDecimal grandTotal = total.add(platformFee);
+                var command = new SectionCheckoutUseCase.SectionCheckoutCommand(
+                                userId,
+                                request.getEventId(),
+                                request.getItems().stream()
+                                                .map(item -> new SectionCheckoutUseCase.SectionItem(
+                                                                item.getSectionId(),
+                                                                item.getQuantity(),
+                                                                item.getPricePerTicket()))
+                                                .toList());
 
-                // Create order
-                Order order = Order.builder()
-                                .id(UUID.randomUUID())
-                                .userId(userId)
-                                .eventId(request.getEventId())
-                                .status(OrderStatus.PAID)
-                                .totalAmount(grandTotal)
-                                .platformFee(platformFee)
-                                .netAmount(total)
-                                .currency("PEN")
-                                .createdAt(LocalDateTime.now())
-                                .build();
-
-                // Save order to database
-                Order savedOrder = orderRepository.save(order);
-
-                // Create tickets for each item
-                List<UUID> ticketIds = new ArrayList<>();
-                for (SectionCheckoutRequest.SectionItem item : request.getItems()) {
-                        for (int i = 0; i < item.getQuantity(); i++) {
-                                Ticket ticket = ticketService.createTicket(
-                                                savedOrder.getId(),
-                                                request.getEventId(),
-                                                null, // ticketTierId - could use sectionId as tier
-                                                null, // seatId - General Admission
-                                                item.getPricePerTicket(),
-                                                "PEN");
-                                ticketIds.add(ticket.getId());
-                        }
-                }
-
-                int ticketCount = ticketIds.size();
+                var result = sectionCheckoutUseCase.execute(command);
 
                 var response = CheckoutResponse.builder()
-                                .orderId(savedOrder.getId())
-                                .ticketCount(ticketCount)
-                                .totalAmount(grandTotal)
-                                .currency("PEN")
-                                .ticketIds(ticketIds)
+                                .orderId(result.orderId())
+                                .ticketCount(result.ticketCount())
+                                .totalAmount(result.totalAmount())
+                                .currency(result.currency())
+                                .ticketIds(result.ticketIds())
                                 .build();
 
                 return ResponseEntity.status(HttpStatus.CREATED)
@@ -116,7 +81,8 @@ public class OrderController {
                         @PathVariable UUID orderId) {
 
                 Order order = getOrderUseCase.getOrder(orderId);
-                return ResponseEntity.ok(ApiResponse.success(toResponse(order)));
+                return ResponseEntity.ok(ApiResponse.success(
+                                orderSummaryService.summarize(List.of(order), false).get(0)));
         }
 
         @GetMapping
@@ -124,34 +90,9 @@ public class OrderController {
         public ResponseEntity<ApiResponse<List<OrderResponse>>> getMyOrders(
                         @AuthenticationPrincipal UUID userId) {
 
-                List<OrderResponse> orders = getUserOrdersUseCase.getOrdersByUser(userId).stream()
-                                .map(this::toResponse)
-                                .collect(Collectors.toList());
+                List<OrderResponse> orders = orderSummaryService.summarize(
+                                getUserOrdersUseCase.getOrdersByUser(userId), false);
 
                 return ResponseEntity.ok(ApiResponse.success(orders));
         }
-
-        private OrderResponse toResponse(Order order) {
-                String eventTitle = null;
-                if (order.getEventId() != null) {
-                        eventTitle = eventRepository.findById(order.getEventId())
-                                        .map(e -> e.getTitle())
-                                        .orElse(null);
-                }
-
-                int ticketCount = ticketRepository.findByOrderId(order.getId()).size();
-
-                return OrderResponse.builder()
-                                .id(order.getId())
-                                .eventId(order.getEventId())
-                                .status(order.getStatus())
-                                .totalAmount(order.getTotalAmount())
-                                .platformFee(order.getPlatformFee())
-                                .netAmount(order.getNetAmount())
-                                .currency(order.getCurrency())
-                                .createdAt(order.getCreatedAt())
-                                .eventTitle(eventTitle)
-                                .ticketCount(ticketCount)
-                                .build();
-        }
 }
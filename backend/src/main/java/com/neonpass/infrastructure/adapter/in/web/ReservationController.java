@@ -1,8 +1,14 @@
 package com.neonpass.infrastructure.adapter.in.web;
 
+import com.neonpass.application.service.WaitingRoomService;
+import com.neonpass.domain.port.in.HoldBestSeatsUseCase;
 import com.neonpass.domain.port.in.ReleaseSeatUseCase;
 import com.neonpass.domain.port.in.ReserveSeatUseCase;
+import com.neonpass.domain.port.in.ReserveSeatsUseCase;
+import com.neonpass.infrastructure.adapter.in.web.dto.request.SeatBatchReservationRequest;
+import com.neonpass.infrastructure.adapter.in.web.dto.request.SeatBestAvailableRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.SeatReservationRequest;
+import com.neonpass.infrastructure.adapter.in.web.dto.response.SeatBatchReservationResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.SeatReservationResponse;
 import com.neonpass.infrastructure.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,14 +33,20 @@ import java.util.UUID;
 public class ReservationController {
 
     private final ReserveSeatUseCase reserveSeatUseCase;
+    private final ReserveSeatsUseCase reserveSeatsUseCase;
     private final ReleaseSeatUseCase releaseSeatUseCase;
+    private final HoldBestSeatsUseCase holdBestSeatsUseCase;
+    private final WaitingRoomService waitingRoomService;
 
     @PostMapping("/seats")
     @Operation(summary = "Reservar asiento", description = "Bloquea un asiento por 10 minutos")
     public ResponseEntity<ApiResponse<SeatReservationResponse>> reserveSeat(
             @Valid @RequestBody SeatReservationRequest request,
+            @RequestHeader(value = WaitingRoomService.ADMISSION_HEADER, required = false) String admissionToken,
             @AuthenticationPrincipal UUID userId) {
 
+        waitingRoomService.requireAdmission(admissionToken, request.getEventId(), userId);
+
         var command = new ReserveSeatUseCase.ReserveSeatCommand(
                 request.getEventId(),
                 request.getSeatId(),
@@ -53,6 +65,62 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/seats/batch")
+    @Operation(summary = "Reservar varios asientos", description = "Bloquea todos los asientos por 10 minutos o ninguno")
+    public ResponseEntity<ApiResponse<SeatBatchReservationResponse>> reserveSeats(
+            @Valid @RequestBody SeatBatchReservationRequest request,
+            @RequestHeader(value = WaitingRoomService.ADMISSION_HEADER, required = false) String admissionToken,
+            @AuthenticationPrincipal UUID userId) {
+
+        waitingRoomService.requireAdmission(admissionToken, request.getEventId(), userId);
+
+        var command = new ReserveSeatsUseCase.ReserveSeatsCommand(
+                request.getEventId(),
+                request.getSeatIds(),
+                userId);
+
+        var result = reserveSeatsUseCase.execute(command);
+
+        var response = SeatBatchReservationResponse.builder()
+                .eventId(result.eventId())
+                .seatIds(result.seatIds())
+                .success(result.success())
+                .message(result.message())
+                .expiresInSeconds(result.expiresInSeconds())
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/seats/best")
+    @Operation(summary = "Mejores asientos", description = "Elige y bloquea por 10 minutos los mejores asientos contiguos de una sección")
+    public ResponseEntity<ApiResponse<SeatBatchReservationResponse>> holdBestSeats(
+            @Valid @RequestBody SeatBestAvailableRequest request,
+            @RequestHeader(value = WaitingRoomService.ADMISSION_HEADER, required = false) String admissionToken,
+            @AuthenticationPrincipal UUID userId) {
+
+        waitingRoomService.requireAdmission(admissionToken, request.getEventId(), userId);
+
+        var command = new HoldBestSeatsUseCase.HoldBestSeatsCommand(
+                request.getEventId(),
+                request.getSectionId(),
+                request.getQuantity(),
+                Boolean.TRUE.equals(request.getAccessible()),
+                userId);
+
+        var result = holdBestSeatsUseCase.execute(command);
+
+        var response = SeatBatchReservationResponse.builder()
+                .eventId(result.eventId())
+                .seatIds(result.seatIds())
+                .success(result.success())
+                .message(result.message())
+                .expiresInSeconds(result.expiresInSeconds())
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @DeleteMapping("/seats/{eventId}/{seatId}")
     @Operation(summary = "Liberar asiento", description = "Libera el bloqueo de un asiento")
     public ResponseEntity<ApiResponse<Void>> releaseSeat(
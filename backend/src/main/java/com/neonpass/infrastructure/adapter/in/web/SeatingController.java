@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neonpass.application.service.SeatingMapService;
 import com.neonpass.domain.model.Section;
 import com.neonpass.domain.model.Seat;
+import com.neonpass.domain.port.in.GetEventUseCase;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.SeatRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.SectionRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.VenueLayoutRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.SeatResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.SectionResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.SeatingMapResponse;
+import com.neonpass.infrastructure.adapter.in.web.sse.SeatDeltaBroadcaster;
 import com.neonpass.infrastructure.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -19,8 +21,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -38,6 +42,8 @@ import java.util.stream.Collectors;
 public class SeatingController {
 
         private final SeatingMapService seatingMapService;
+        private final SeatDeltaBroadcaster seatDeltaBroadcaster;
+        private final GetEventUseCase getEventUseCase;
         private final ObjectMapper objectMapper;
 
         // ==========================================
@@ -77,6 +83,18 @@ public class SeatingController {
                 return ResponseEntity.ok(ApiResponse.success(seatingMap));
         }
 
+        @GetMapping(value = "/events/{eventId}/seating-map/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @Operation(summary = "Cambios del mapa de asientos", description = "Stream SSE con los cambios de estado de asientos (seats), "
+                        + "agrupados y numerados por secuencia. Reanuda desde Last-Event-ID")
+        public SseEmitter streamSeatingMap(
+                        @PathVariable UUID eventId,
+                        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+                // Solo eventos existentes: el endpoint es público
+                getEventUseCase.execute(eventId);
+                return seatDeltaBroadcaster.subscribe(eventId, lastEventId);
+        }
+
         // ==========================================
         // SECTIONS
         // ==========================================
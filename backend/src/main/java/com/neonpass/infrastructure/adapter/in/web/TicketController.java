@@ -1,23 +1,21 @@
 package com.neonpass.infrastructure.adapter.in.web;
 
+import com.neonpass.application.service.MyTicketService;
+import com.neonpass.application.service.OfflineBundleSigner;
+import com.neonpass.application.service.OfflineValidationService;
 import com.neonpass.application.service.TicketPdfService;
-import com.neonpass.domain.model.Event;
 import com.neonpass.domain.model.Order;
-import com.neonpass.domain.model.Seat;
-import com.neonpass.domain.model.Section;
 import com.neonpass.domain.model.Ticket;
-import com.neonpass.domain.model.TicketTier;
-import com.neonpass.domain.model.Venue;
+import com.neonpass.domain.port.in.OfflineValidationUseCase;
 import com.neonpass.domain.port.in.ValidateTicketUseCase;
 import com.neonpass.domain.port.out.EventRepository;
 import com.neonpass.domain.port.out.OrderRepository;
-import com.neonpass.domain.port.out.SeatRepository;
-import com.neonpass.domain.port.out.SectionRepository;
 import com.neonpass.domain.port.out.TicketRepository;
-import com.neonpass.domain.port.out.TicketTierRepository;
-import com.neonpass.domain.port.out.VenueRepository;
+import com.neonpass.infrastructure.adapter.in.web.dto.request.OfflineSyncRequest;
+import com.neonpass.infrastructure.adapter.in.web.dto.request.TicketBatchValidationRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.request.TicketValidationRequest;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.MyTicketResponse;
+import com.neonpass.infrastructure.adapter.in.web.dto.response.OfflineSyncResponse;
 import com.neonpass.infrastructure.adapter.in.web.dto.response.TicketValidationResponse;
 import com.neonpass.infrastructure.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,11 +27,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -49,13 +49,11 @@ public class TicketController {
 
         private final ValidateTicketUseCase validateTicketUseCase;
         private final TicketPdfService ticketPdfService;
+        private final MyTicketService myTicketService;
+        private final OfflineValidationService offlineValidationService;
         private final OrderRepository orderRepository;
         private final TicketRepository ticketRepository;
         private final EventRepository eventRepository;
-        private final VenueRepository venueRepository;
-        private final SeatRepository seatRepository;
-        private final SectionRepository sectionRepository;
-        private final TicketTierRepository ticketTierRepository;
 
         @PostMapping("/validate")
         @Operation(summary = "Validar ticket", description = "Escanea y valida un QR de ticket")
@@ -80,6 +78,90 @@ public class TicketController {
                 return ResponseEntity.ok(ApiResponse.success(response));
         }
 
+        @PostMapping("/validate/batch")
+        @PreAuthorize("hasAnyRole('STAFF','ADMIN')")
+        @Operation(summary = "Validar lote de tickets", description = "Valida varios QR en una sola petición y devuelve un resultado por QR en el mismo orden")
+        public ResponseEntity<ApiResponse<List<TicketValidationResponse>>> validateTickets(
+                        @Valid @RequestBody TicketBatchValidationRequest request,
+                        @AuthenticationPrincipal UUID staffId) {
+
+                List<TicketValidationResponse> responses = validateTicketUseCase
+                                .executeBatch(request.getQrCodeHashes(), staffId).stream()
+                                .map(result -> TicketValidationResponse.builder()
+                                                .ticketId(result.ticketId())
+                                                .eventId(result.eventId())
+                                                .seatId(result.seatId())
+                                                .status(result.status())
+                                                .message(result.message())
+                                                .build())
+                                .toList();
+
+                return ResponseEntity.ok(ApiResponse.success(responses));
+        }
+
+        @GetMapping("/offline/public-key")
+        @PreAuthorize("hasAnyRole('STAFF','ADMIN')")
+        @Operation(summary = "Clave pública de bundles offline", description = "Clave Ed25519 (X.509, base64) con la que el escáner verifica los bundles")
+        public ResponseEntity<ApiResponse<Map<String, String>>> getBundlePublicKey() {
+                return ResponseEntity.ok(ApiResponse.success(Map.of(
+                                "algorithm", OfflineBundleSigner.ALGORITHM,
+                                "publicKey", offlineValidationService.bundlePublicKey())));
+        }
+
+        @GetMapping("/offline/{eventId}/bundle")
+        @PreAuthorize("hasAnyRole('STAFF','ADMIN')")
+        @Operation(summary = "Bundle de validación offline", description = "Descarga el conjunto firmado de tickets válidos del evento para validar sin conexión")
+        public ResponseEntity<StreamingResponseBody> downloadValidationBundle(
+                        @PathVariable UUID eventId) {
+
+                var bundle = offlineValidationService.exportBundle(eventId);
+
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+                headers.setContentDispositionFormData("attachment", "validation_" + eventId + ".npvb");
+                headers.set("X-Bundle-Generated-At", bundle.generatedAt().toString());
+
+                return ResponseEntity.ok()
+                                .headers(headers)
+                                .body(out -> offlineValidationService.writeBundle(bundle, out));
+        }
+
+        @PostMapping("/offline/{eventId}/sync")
+        @PreAuthorize("hasAnyRole('STAFF','ADMIN')")
+        @Operation(summary = "Sincronizar escaneos offline", description = "Registra los escaneos hechos sin conexión y devuelve los tickets canjeados por otras puertas")
+        public ResponseEntity<ApiResponse<OfflineSyncResponse>> syncOfflineScans(
+                        @PathVariable UUID eventId,
+                        @Valid @RequestBody OfflineSyncRequest request,
+                        @AuthenticationPrincipal UUID staffId) {
+
+                var command = new OfflineValidationUseCase.SyncCommand(
+                                eventId,
+                                request.getDeviceId(),
+                                request.getSince(),
+                                request.getScans().stream()
+                                                .map(scan -> new OfflineValidationUseCase.OfflineScan(
+                                                                scan.getQrCodeHash(), scan.getScannedAt()))
+                                                .toList(),
+                                staffId);
+
+                var result = offlineValidationService.sync(command);
+
+                var response = OfflineSyncResponse.builder()
+                                .results(result.results().stream()
+                                                .map(scan -> OfflineSyncResponse.ScanResult.builder()
+                                                                .ticketId(scan.ticketId())
+                                                                .status(scan.status())
+                                                                .scannedAt(scan.scannedAt())
+                                                                .message(scan.message())
+                                                                .build())
+                                                .toList())
+                                .redeemedElsewhere(result.redeemedElsewhere())
+                                .syncedAt(result.syncedAt())
+                                .build();
+
+                return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
         @GetMapping("/my-tickets")
         @Operation(summary = "Mis tickets", description = "Obtiene los tickets del usuario autenticado")
         public ResponseEntity<ApiResponse<List<MyTicketResponse>>> getMyTickets(
@@ -87,66 +169,7 @@ public class TicketController {
 
                 log.info("Obteniendo tickets para usuario: {}", userId);
 
-                // Get user's orders
-                List<Order> orders = orderRepository.findByUserId(userId);
-
-                List<MyTicketResponse> myTickets = new ArrayList<>();
-
-                for (Order order : orders) {
-                        List<Ticket> tickets = ticketRepository.findByOrderId(order.getId());
-
-                        for (Ticket ticket : tickets) {
-                                MyTicketResponse.MyTicketResponseBuilder responseBuilder = MyTicketResponse.builder()
-                                                .id(ticket.getId())
-                                                .eventId(ticket.getEventId())
-                                                .price(ticket.getPriceSnapshot())
-                                                .currency(ticket.getCurrencySnapshot())
-                                                .qrCodeHash(ticket.getQrCodeHash())
-                                                .status(ticket.getStatus())
-                                                .scannedAt(ticket.getScannedAt())
-                                                .purchasedAt(ticket.getCreatedAt());
-
-                                // Get event info
-                                eventRepository.findById(ticket.getEventId()).ifPresent(event -> {
-                                        responseBuilder.eventTitle(event.getTitle());
-                                        responseBuilder.eventDate(event.getStartTime());
-
-                                        // Get venue info
-                                        if (event.getVenueId() != null) {
-                                                venueRepository.findById(event.getVenueId()).ifPresent(venue -> {
-                                                        responseBuilder.venueName(venue.getName());
-                                                        responseBuilder.venueAddress(venue.getAddress());
-                                                });
-                                        }
-                                });
-
-                                // Get seat info
-                                if (ticket.getSeatId() != null) {
-                                        seatRepository.findById(ticket.getSeatId()).ifPresent(seat -> {
-                                                responseBuilder.row(seat.getRowLabel());
-                                                responseBuilder.seatNumber(seat.getNumberLabel());
-
-                                                // Get section info
-                                                if (seat.getSectionId() != null) {
-                                                        sectionRepository.findById(seat.getSectionId())
-                                                                        .ifPresent(section -> responseBuilder
-                                                                                        .sectionName(section
-                                                                                                        .getName()));
-                                                }
-                                        });
-                                } else {
-                                        responseBuilder.sectionName("General Admission");
-                                }
-
-                                // Get tier info
-                                if (ticket.getTicketTierId() != null) {
-                                        ticketTierRepository.findById(ticket.getTicketTierId())
-                                                        .ifPresent(tier -> responseBuilder.tierName(tier.getName()));
-                                }
-
-                                myTickets.add(responseBuilder.build());
-                        }
-                }
+                List<MyTicketResponse> myTickets = myTicketService.getMyTickets(userId);
 
                 log.info("Retornando {} tickets para usuario {}", myTickets.size(), userId);
                 return ResponseEntity.ok(ApiResponse.success(myTickets));
@@ -160,63 +183,7 @@ public class TicketController {
 
                 log.info("Obteniendo ticket {} para usuario {}", ticketId, userId);
 
-                Ticket ticket = ticketRepository.findById(ticketId)
-                                .orElseThrow(() -> new RuntimeException("Ticket not found"));
-
-                // Verify ownership through order
-                Order order = orderRepository.findById(ticket.getOrderId())
-                                .orElseThrow(() -> new RuntimeException("Order not found"));
-
-                if (!order.getUserId().equals(userId)) {
-                        throw new RuntimeException("Access denied");
-                }
-
-                MyTicketResponse.MyTicketResponseBuilder responseBuilder = MyTicketResponse.builder()
-                                .id(ticket.getId())
-                                .eventId(ticket.getEventId())
-                                .price(ticket.getPriceSnapshot())
-                                .currency(ticket.getCurrencySnapshot())
-                                .qrCodeHash(ticket.getQrCodeHash())
-                                .status(ticket.getStatus())
-                                .scannedAt(ticket.getScannedAt())
-                                .purchasedAt(ticket.getCreatedAt());
-
-                // Get event info
-                eventRepository.findById(ticket.getEventId()).ifPresent(event -> {
-                        responseBuilder.eventTitle(event.getTitle());
-                        responseBuilder.eventDate(event.getStartTime());
-
-                        if (event.getVenueId() != null) {
-                                venueRepository.findById(event.getVenueId()).ifPresent(venue -> {
-                                        responseBuilder.venueName(venue.getName());
-                                        responseBuilder.venueAddress(venue.getAddress());
-                                });
-                        }
-                });
-
-                // Get seat info
-                if (ticket.getSeatId() != null) {
-                        seatRepository.findById(ticket.getSeatId()).ifPresent(seat -> {
-                                responseBuilder.row(seat.getRowLabel());
-                                responseBuilder.seatNumber(seat.getNumberLabel());
-
-                                if (seat.getSectionId() != null) {
-                                        sectionRepository.findById(seat.getSectionId())
-                                                        .ifPresent(section -> responseBuilder
-                                                                        .sectionName(section.getName()));
-                                }
-                        });
-                } else {
-                        responseBuilder.sectionName("General Admission");
-                }
-
-                // Get tier info
-                if (ticket.getTicketTierId() != null) {
-                        ticketTierRepository.findById(ticket.getTicketTierId())
-                                        .ifPresent(tier -> responseBuilder.tierName(tier.getName()));
-                }
-
-                return ResponseEntity.ok(ApiResponse.success(responseBuilder.build()));
+                return ResponseEntity.ok(ApiResponse.success(myTicketService.getTicket(ticketId, userId)));
         }
 
         @GetMapping("/{ticketId}/download")
@@ -0,0 +1,61 @@
+package com.neonpass.infrastructure.adapter.in.web;
+
+import com.neonpass.application.service.WaitingRoomService;
+import com.neonpass.application.service.WaitingRoomService.QueueStatus;
+import com.neonpass.infrastructure.adapter.in.web.dto.response.WaitingRoomResponse;
+import com.neonpass.infrastructure.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST para la sala de espera virtual.
+ */
+@RestController
+@RequestMapping("/api/v1/waiting-room")
+@RequiredArgsConstructor
+@Tag(name = "Sala de espera", description = "Fila de admisión para reservas y checkout")
+@SecurityRequirement(name = "bearerAuth")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{eventId}/join")
+    @Operation(summary = "Entrar a la fila", description = "Entrega un número de fila firmado; si el evento no tiene sala abierta admite al instante")
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> join(
+            @PathVariable UUID eventId,
+            @AuthenticationPrincipal UUID userId) {
+
+        QueueStatus status = waitingRoomService.join(eventId, userId);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(status)));
+    }
+
+    @GetMapping("/{eventId}/status")
+    @Operation(summary = "Posición en la fila", description = "Consulta la posición; al llegar el turno incluye el token de admisión")
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> status(
+            @PathVariable UUID eventId,
+            @RequestHeader("X-Queue-Token") String queueToken,
+            @AuthenticationPrincipal UUID userId) {
+
+        QueueStatus status = waitingRoomService.status(eventId, userId, queueToken);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(status)));
+    }
+
+    private WaitingRoomResponse toResponse(QueueStatus status) {
+        return WaitingRoomResponse.builder()
+                .eventId(status.eventId())
+                .queueToken(status.queueToken())
+                .admitted(status.admitted())
+                .position(status.position())
+                .estimatedWaitSeconds(status.estimatedWaitSeconds())
+                .admissionToken(status.admissionToken())
+                .admissionExpiresAt(status.admissionExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO para subir los escaneos hechos sin conexión.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineSyncRequest {
+
+    /** Identificador del escáner, se guarda en la validación */
+    @Size(max = 100, message = "El ID del dispositivo admite como máximo 100 caracteres")
+    private String deviceId;
+
+    /** generatedAt del bundle o syncedAt del sync anterior */
+    private LocalDateTime since;
+
+    @NotNull(message = "La lista de escaneos es requerida")
+    @Size(max = 5000, message = "El sync admite como máximo 5000 escaneos")
+    private List<@Valid @NotNull Scan> scans;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Scan {
+
+        /** QR tal como se escaneó; el servidor verifica su firma */
+        @NotBlank(message = "El QR hash es requerido")
+        @Size(max = 512, message = "El QR hash admite como máximo 512 caracteres")
+        private String qrCodeHash;
+
+        @NotNull(message = "La hora de escaneo es requerida")
+        private LocalDateTime scannedAt;
+    }
+}
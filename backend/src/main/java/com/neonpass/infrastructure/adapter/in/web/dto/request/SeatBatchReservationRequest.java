@@ -0,0 +1,27 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para solicitud de reserva de varios asientos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchReservationRequest {
+
+    @NotNull(message = "El ID del evento es requerido")
+    private UUID eventId;
+
+    @NotEmpty(message = "Debe incluir al menos un asiento")
+    private List<@NotNull UUID> seatIds;
+}
@@ -0,0 +1,33 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO para solicitud de los mejores asientos contiguos de una sección.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBestAvailableRequest {
+
+    @NotNull(message = "El ID del evento es requerido")
+    private UUID eventId;
+
+    @NotNull(message = "El ID de la sección es requerido")
+    private UUID sectionId;
+
+    @NotNull(message = "La cantidad es requerida")
+    @Min(value = 1, message = "La cantidad debe ser al menos 1")
+    private Integer quantity;
+
+    /** Solo asientos accesibles */
+    private Boolean accessible;
+}
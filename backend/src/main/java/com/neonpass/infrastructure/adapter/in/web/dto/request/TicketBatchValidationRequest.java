@@ -0,0 +1,25 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para validación de varios tickets escaneados en puerta.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBatchValidationRequest {
+
+    @NotEmpty(message = "Debe incluir al menos un QR")
+    @Size(max = 200, message = "El lote admite como máximo 200 QR")
+    private List<@NotBlank String> qrCodeHashes;
+}
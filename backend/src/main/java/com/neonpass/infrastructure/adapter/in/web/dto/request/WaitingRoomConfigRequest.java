@@ -0,0 +1,24 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para abrir o cerrar la sala de espera de un evento.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomConfigRequest {
+
+    @NotNull(message = "Debe indicar si la sala está abierta")
+    private Boolean enabled;
+
+    @Min(value = 1, message = "La sala debe admitir al menos 1 usuario por segundo")
+    private Integer admissionsPerSecond;
+}
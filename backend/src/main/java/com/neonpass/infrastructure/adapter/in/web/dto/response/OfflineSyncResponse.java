@@ -0,0 +1,41 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.response;
+
+import com.neonpass.domain.model.enums.ValidationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para respuesta del sync de escaneos sin conexión.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineSyncResponse {
+
+    /** Un resultado por escaneo, en el orden recibido */
+    private List<ScanResult> results;
+
+    /** Tickets canjeados por otras puertas desde {@code since} */
+    private List<UUID> redeemedElsewhere;
+
+    /** Valor de {@code since} para el próximo sync */
+    private LocalDateTime syncedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScanResult {
+        private UUID ticketId;
+        private ValidationStatus status;
+        private LocalDateTime scannedAt;
+        private String message;
+    }
+}
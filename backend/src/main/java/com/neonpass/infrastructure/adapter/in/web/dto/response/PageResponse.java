@@ -19,10 +19,13 @@ public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    /** Total de registros; null en las páginas pedidas por cursor */
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    /** Token para pedir la página siguiente por cursor (null en la última) */
+    private String nextCursor;
 
     public static <T> PageResponse<T> of(List<T> content, int page, int size, long totalElements) {
         int totalPages = (int) Math.ceil((double) totalElements / size);
@@ -36,4 +39,26 @@ public class PageResponse<T> {
                 .last(page >= totalPages - 1)
                 .build();
     }
+
+    /**
+     * @param totalElements null si la página se pidió por cursor; entonces
+     *                      {@code last} se deduce de {@code nextCursor}
+     */
+    public static <T> PageResponse<T> of(List<T> content, int page, int size, Long totalElements,
+            String nextCursor) {
+        if (totalElements == null) {
+            return PageResponse.<T>builder()
+                    .content(content)
+                    .page(page)
+                    .size(size)
+                    .first(false)
+                    .last(nextCursor == null)
+                    .nextCursor(nextCursor)
+                    .build();
+        }
+
+        PageResponse<T> response = of(content, page, size, totalElements);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
 }
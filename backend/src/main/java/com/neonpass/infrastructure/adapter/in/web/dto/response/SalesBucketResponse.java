@@ -0,0 +1,26 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de un bucket de la serie temporal de ventas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesBucketResponse {
+
+    /** Inicio del bucket (minuto, hora o día) */
+    private LocalDateTime start;
+    private Long orders;
+    private Long tickets;
+    private BigDecimal revenue;
+    private BigDecimal platformFees;
+}
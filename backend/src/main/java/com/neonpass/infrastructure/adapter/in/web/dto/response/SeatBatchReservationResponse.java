@@ -0,0 +1,25 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para respuesta de reserva de varios asientos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchReservationResponse {
+
+    private UUID eventId;
+    private List<UUID> seatIds;
+    private boolean success;
+    private String message;
+    private int expiresInSeconds;
+}
@@ -20,6 +20,13 @@ import java.util.UUID;
 public class SeatingMapResponse {
 
     private UUID eventId;
+
+    /**
+     * Secuencia del stream de cambios al generar el mapa. Se envía como
+     * Last-Event-ID al suscribirse a /seating-map/stream.
+     */
+    private Long sequence;
+
     private UUID venueId;
     private String venueName;
 
@@ -0,0 +1,29 @@
+package com.neonpass.infrastructure.adapter.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con el estado del usuario en la sala de espera.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomResponse {
+
+    private UUID eventId;
+    /** Token para consultar la posición (header X-Queue-Token) */
+    private String queueToken;
+    private boolean admitted;
+    private long position;
+    private long estimatedWaitSeconds;
+    /** Token para reservas y checkout (header X-Admission-Token) */
+    private String admissionToken;
+    private Instant admissionExpiresAt;
+}
@@ -0,0 +1,308 @@
+package com.neonpass.infrastructure.adapter.in.web.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neonpass.application.service.SeatDeltaFeed;
+import com.neonpass.application.service.SeatDeltaFeed.SeatDeltaFrame;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mantiene las suscripciones SSE a los cambios de asientos de cada evento.
+ *
+ * <p>
+ * Cada frame se serializa una sola vez y se encola en todos los suscriptores
+ * del evento con su secuencia como {@code id}. Al conectar, el cliente recibe
+ * un evento {@code sync} con la secuencia actual o, si envía
+ * {@code Last-Event-ID} (por ejemplo, la {@code sequence} del mapa de
+ * asientos), los frames que se perdió. Si esos frames ya no están en el
+ * historial recibe {@code resync} y debe recargar el mapa completo.
+ * </p>
+ *
+ * <p>
+ * Los envíos no bloquean al hilo del feed: cada suscriptor tiene su propia
+ * cola, que vacía un pool de {@code seat-delta.sender-threads} hilos. Un
+ * cliente que acumula más de {@code seat-delta.max-pending-frames} frames sin
+ * recibir se desconecta; al reconectar con {@code Last-Event-ID} recupera lo
+ * perdido. Los grupos sin suscriptores se descartan.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatDeltaBroadcaster {
+
+    public static final String EVENT_SEATS = "seats";
+    public static final String EVENT_SYNC = "sync";
+    public static final String EVENT_RESYNC = "resync";
+
+    private final SeatDeltaFeed seatDeltaFeed;
+    private final ObjectMapper objectMapper;
+
+    @Value("${seat-delta.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${seat-delta.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${seat-delta.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${seat-delta.max-pending-frames:64}")
+    private int maxPendingFrames;
+
+    private final ConcurrentHashMap<UUID, Subscribers> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-delta-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService senders;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-delta-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        seatDeltaFeed.addListener(this::broadcast);
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(group -> group.members.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Abre una suscripción a los cambios de asientos de un evento. El evento
+     * debe existir; lo verifica quien llama.
+     *
+     * @param lastSequence última secuencia recibida por el cliente, o null si
+     *                     es una conexión nueva
+     */
+    public SseEmitter subscribe(UUID eventId, Long lastSequence) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMs));
+
+        while (true) {
+            Subscribers group = subscribers.computeIfAbsent(eventId,
+                    id -> new Subscribers(seatDeltaFeed.currentSequence(id)));
+
+            // Bajo el lock del grupo no se encolan frames nuevos, así que el
+            // cliente recibe primero lo que se perdió y luego los frames
+            // nuevos sin huecos ni duplicados
+            synchronized (group) {
+                if (group.closed) {
+                    continue;
+                }
+                // Todo frame hasta currentSequence ya pasó por broadcast; si
+                // es mayor, el feed descartó el canal y retomó más adelante
+                // sin frames intermedios
+                group.lastSequence = Math.max(group.lastSequence, seatDeltaFeed.currentSequence(eventId));
+                if (lastSequence == null) {
+                    subscriber.queue.add(syncEvent(EVENT_SYNC, group.lastSequence));
+                } else {
+                    Optional<List<SeatDeltaFrame>> missed = lastSequence <= group.lastSequence
+                            ? seatDeltaFeed.framesBetween(eventId, lastSequence, group.lastSequence)
+                                    .filter(frames -> frames.size() <= maxPendingFrames)
+                            : Optional.empty();
+
+                    if (missed.isPresent()) {
+                        missed.get().forEach(frame -> subscriber.queue.add(toEvent(frame, toJson(frame))));
+                    } else {
+                        subscriber.queue.add(syncEvent(EVENT_RESYNC, group.lastSequence));
+                    }
+                }
+                subscriber.pending.set(subscriber.queue.size());
+                group.members.add(subscriber);
+            }
+
+            Runnable remove = () -> unsubscribe(eventId, group, subscriber);
+            subscriber.emitter.onCompletion(remove);
+            subscriber.emitter.onTimeout(remove);
+            subscriber.emitter.onError(e -> remove.run());
+            schedule(eventId, group, subscriber);
+
+            log.debug("Suscripción SSE a asientos del evento {} ({} activas)", eventId, group.members.size());
+            return subscriber.emitter;
+        }
+    }
+
+    private void broadcast(SeatDeltaFrame frame) {
+        Subscribers group = subscribers.get(frame.eventId());
+        if (group == null) {
+            return;
+        }
+
+        synchronized (group) {
+            // La secuencia del grupo solo avanza; un frame que no la supera
+            // ya se contó
+            if (frame.sequence() <= group.lastSequence) {
+                return;
+            }
+            group.lastSequence = frame.sequence();
+            if (group.members.isEmpty()) {
+                return;
+            }
+
+            // Se arma una vez: el builder no admite armarse más de una vez
+            Set<DataWithMediaType> event = toEvent(frame, toJson(frame));
+            group.members.forEach(subscriber -> enqueue(frame.eventId(), group, subscriber, event));
+        }
+    }
+
+    private void sendHeartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.forEach((eventId, group) -> {
+            synchronized (group) {
+                group.members.forEach(subscriber ->
+                        enqueue(eventId, group, subscriber, ping));
+            }
+        });
+    }
+
+    /**
+     * Encola un evento para el suscriptor, o lo desconecta si ya tiene
+     * demasiados pendientes. El emitter lo cierra el hilo que lo vacía: aquí
+     * podría estar bloqueado por un envío en curso.
+     */
+    private void enqueue(UUID eventId, Subscribers group, Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (subscriber.dropped) {
+            return;
+        }
+        if (subscriber.pending.incrementAndGet() > maxPendingFrames) {
+            log.debug("Suscriptor SSE lento desconectado del evento {}", eventId);
+            subscriber.dropped = true;
+            subscriber.queue.clear();
+            unsubscribe(eventId, group, subscriber);
+            schedule(eventId, group, subscriber);
+            return;
+        }
+        subscriber.queue.add(event);
+        schedule(eventId, group, subscriber);
+    }
+
+    /**
+     * Agenda el vaciado de la cola del suscriptor si no hay uno en curso.
+     * Un solo hilo a la vez escribe en cada emitter, en orden.
+     */
+    private void schedule(UUID eventId, Subscribers group, Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(eventId, group, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(UUID eventId, Subscribers group, Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> event;
+            while (!subscriber.dropped && (event = subscriber.queue.poll()) != null) {
+                subscriber.pending.decrementAndGet();
+                subscriber.emitter.send(event);
+            }
+            if (subscriber.dropped) {
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(eventId, group, subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // Un frame encolado justo después del último poll
+        if (!subscriber.queue.isEmpty() && group.members.contains(subscriber)) {
+            schedule(eventId, group, subscriber);
+        }
+    }
+
+    /**
+     * Quita al suscriptor y descarta el grupo si quedó vacío.
+     */
+    private void unsubscribe(UUID eventId, Subscribers group, Subscriber subscriber) {
+        synchronized (group) {
+            group.members.remove(subscriber);
+            if (group.members.isEmpty() && !group.closed) {
+                group.closed = true;
+                subscribers.remove(eventId, group);
+            }
+        }
+    }
+
+    private Set<DataWithMediaType> syncEvent(String name, long sequence) {
+        return SseEmitter.event()
+                .id(Long.toString(sequence))
+                .name(name)
+                .data(Map.of("sequence", sequence))
+                .build();
+    }
+
+    private Set<DataWithMediaType> toEvent(SeatDeltaFrame frame, String json) {
+        return SseEmitter.event()
+                .id(Long.toString(frame.sequence()))
+                .name(EVENT_SEATS)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private String toJson(SeatDeltaFrame frame) {
+        try {
+            return objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializando frame de asientos", e);
+        }
+    }
+
+    private static final class Subscribers {
+
+        private final Set<Subscriber> members = ConcurrentHashMap.newKeySet();
+        private long lastSequence;
+        /** Ya se quitó del mapa; las nuevas suscripciones crean otro grupo */
+        private boolean closed;
+
+        Subscribers(long lastSequence) {
+            this.lastSequence = lastSequence;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
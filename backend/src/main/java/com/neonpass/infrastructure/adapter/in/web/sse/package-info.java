@@ -0,0 +1,15 @@
+/**
+ * Capa de Infraestructura - Streams Server-Sent Events.
+ * 
+ * <p>
+ * Este paquete contiene los componentes que mantienen las conexiones SSE
+ * abiertas por los clientes y les envían los eventos publicados por la capa
+ * de aplicación.
+ * </p>
+ * 
+ * <p>
+ * <strong>Patrón:</strong> Adapter In (Driving Adapter) - Hexagonal
+ * Architecture.
+ * </p>
+ */
+package com.neonpass.infrastructure.adapter.in.web.sse;
@@ -0,0 +1,442 @@
+package com.neonpass.infrastructure.adapter.out.memory;
+
+import com.neonpass.domain.port.out.SeatLock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter que implementa el puerto de salida SeatLock en memoria local.
+ *
+ * <p>
+ * Pensado para despliegues de un solo nodo sin Redis
+ * ({@code seat-lock.provider=memory}). Los bloqueos se reparten en stripes,
+ * cada uno con un {@link ConcurrentHashMap} y una rueda de expiración
+ * (timing wheel) propia:
+ * </p>
+ * <ul>
+ * <li>Todas las transiciones de un asiento son CAS sobre el mapa
+ * ({@code putIfAbsent}, {@code replace}, {@code remove}); no hay locks.</li>
+ * <li>Un bloqueo vencido se trata como libre aunque la rueda todavía no lo
+ * haya barrido, así que la expiración es exacta.</li>
+ * <li>La rueda solo libera memoria: cada tick barre los bloqueos cuyo
+ * vencimiento cae en esa ranura.</li>
+ * </ul>
+ *
+ * <p>
+ * Las operaciones múltiples adquieren asiento por asiento y deshacen lo
+ * adquirido si encuentran un conflicto. El resultado es todo o nada, aunque
+ * otro hilo puede observar la reserva parcial durante ese instante.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "seat-lock.provider", havingValue = "memory")
+@Slf4j
+public class InMemorySeatLockAdapter implements SeatLock {
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    /** Cantidad de stripes (potencia de 2) */
+    private static final int STRIPES = 64;
+
+    /** Resolución de la rueda de expiración */
+    private static final long TICK_MS = 1000;
+
+    /** Ranuras por rueda (potencia de 2, mayor que el TTL en ticks) */
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-lock-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemorySeatLockAdapter() {
+        long currentTick = tickOf(now());
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(currentTick);
+        }
+    }
+
+    @PostConstruct
+    void startSweeper() {
+        sweeper.scheduleAtFixedRate(this::sweep, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        log.info("Bloqueo de asientos en memoria activo ({} stripes, TTL {}s)", STRIPES, LOCK_TTL.toSeconds());
+    }
+
+    @PreDestroy
+    void stopSweeper() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public boolean lockSeat(UUID eventId, UUID seatId, UUID userId) {
+        SeatKey key = new SeatKey(eventId, seatId);
+        Stripe stripe = stripeFor(key);
+        long now = now();
+        Hold hold = new Hold(userId, now + LOCK_TTL.toMillis());
+
+        while (true) {
+            Hold current = stripe.holds.putIfAbsent(key, hold);
+            if (current == null || (current.isExpired(now) && stripe.holds.replace(key, current, hold))) {
+                stripe.schedule(key, hold);
+                log.info("Asiento bloqueado: {} para usuario: {}", key, userId);
+                return true;
+            }
+            if (!current.isExpired(now)) {
+                log.warn("Asiento ya bloqueado: {}", key);
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public List<UUID> lockSeats(UUID eventId, List<UUID> seatIds, UUID userId) {
+        long now = now();
+        Hold hold = new Hold(userId, now + LOCK_TTL.toMillis());
+        List<Acquisition> acquired = new ArrayList<>(seatIds.size());
+        List<UUID> conflicts = new ArrayList<>();
+
+        for (UUID seatId : seatIds) {
+            SeatKey key = new SeatKey(eventId, seatId);
+            if (!conflicts.isEmpty()) {
+                // Ya falló: solo se recopilan los demás conflictos
+                if (!isFreeFor(key, userId, now)) {
+                    conflicts.add(seatId);
+                }
+                continue;
+            }
+
+            Acquisition acquisition = acquire(key, hold, now);
+            if (acquisition != null) {
+                acquired.add(acquisition);
+            } else {
+                conflicts.add(seatId);
+            }
+        }
+
+        if (!conflicts.isEmpty()) {
+            acquired.forEach(acquisition -> rollback(acquisition, hold));
+            log.warn("Bloqueo múltiple rechazado en evento {}: {} asientos ya bloqueados",
+                    eventId, conflicts.size());
+            return conflicts;
+        }
+
+        acquired.forEach(acquisition -> stripeFor(acquisition.key()).schedule(acquisition.key(), hold));
+        log.info("{} asientos bloqueados en evento {} para usuario: {}", seatIds.size(), eventId, userId);
+        return conflicts;
+    }
+
+    @Override
+    public boolean unlockSeat(UUID eventId, UUID seatId, UUID userId) {
+        SeatKey key = new SeatKey(eventId, seatId);
+        if (release(key, userId, now())) {
+            log.info("Bloqueo liberado: {}", key);
+            return true;
+        }
+
+        log.warn("Usuario {} no es dueño del bloqueo {}", userId, key);
+        return false;
+    }
+
+    @Override
+    public int unlockSeats(UUID eventId, List<UUID> seatIds, UUID userId) {
+        long now = now();
+        int released = 0;
+        for (UUID seatId : seatIds) {
+            if (release(new SeatKey(eventId, seatId), userId, now)) {
+                released++;
+            }
+        }
+
+        log.info("{} de {} bloqueos liberados en evento {} para usuario {}",
+                released, seatIds.size(), eventId, userId);
+        return released;
+    }
+
+    @Override
+    public UUID getLockedBy(UUID eventId, UUID seatId) {
+        SeatKey key = new SeatKey(eventId, seatId);
+        Hold current = stripeFor(key).holds.get(key);
+
+        return current != null && !current.isExpired(now()) ? current.owner() : null;
+    }
+
+    @Override
+    public Set<UUID> findLockedSeatIds(UUID eventId, Collection<UUID> seatIds) {
+        long now = now();
+        Set<UUID> locked = new HashSet<>();
+        for (UUID seatId : seatIds) {
+            SeatKey key = new SeatKey(eventId, seatId);
+            Hold current = stripeFor(key).holds.get(key);
+            if (current != null && !current.isExpired(now)) {
+                locked.add(seatId);
+            }
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean extendLock(UUID eventId, UUID seatId, UUID userId) {
+        long now = now();
+        Hold renewed = new Hold(userId, now + LOCK_TTL.toMillis());
+        SeatKey key = new SeatKey(eventId, seatId);
+
+        if (renew(key, renewed, now) != null) {
+            stripeFor(key).schedule(key, renewed);
+            log.debug("TTL extendido para: {}", key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public List<UUID> extendLocks(UUID eventId, List<UUID> seatIds, UUID userId) {
+        long now = now();
+        Hold renewed = new Hold(userId, now + LOCK_TTL.toMillis());
+        List<Acquisition> renewedHolds = new ArrayList<>(seatIds.size());
+        List<UUID> missing = new ArrayList<>();
+
+        for (UUID seatId : seatIds) {
+            SeatKey key = new SeatKey(eventId, seatId);
+            if (!missing.isEmpty()) {
+                Hold current = stripeFor(key).holds.get(key);
+                if (current == null || !current.isOwnedBy(userId, now)) {
+                    missing.add(seatId);
+                }
+                continue;
+            }
+
+            Hold previous = renew(key, renewed, now);
+            if (previous != null) {
+                renewedHolds.add(new Acquisition(key, previous));
+            } else {
+                missing.add(seatId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            renewedHolds.forEach(acquisition -> rollback(acquisition, renewed));
+            return missing;
+        }
+
+        renewedHolds.forEach(acquisition -> stripeFor(acquisition.key()).schedule(acquisition.key(), renewed));
+        log.debug("TTL extendido para {} asientos del evento {}", seatIds.size(), eventId);
+        return missing;
+    }
+
+    /**
+     * Adquiere o renueva el bloqueo de un asiento para el dueño de
+     * {@code hold}.
+     *
+     * @return la adquisición (con el bloqueo previo del mismo dueño, si lo
+     *         había) o null si el asiento es de otro usuario
+     */
+    private Acquisition acquire(SeatKey key, Hold hold, long now) {
+        ConcurrentHashMap<SeatKey, Hold> holds = stripeFor(key).holds;
+        while (true) {
+            Hold current = holds.putIfAbsent(key, hold);
+            if (current == null) {
+                return new Acquisition(key, null);
+            }
+
+            boolean live = !current.isExpired(now);
+            if (live && !current.owner().equals(hold.owner())) {
+                return null;
+            }
+            if (holds.replace(key, current, hold)) {
+                return new Acquisition(key, live ? current : null);
+            }
+        }
+    }
+
+    /**
+     * Reemplaza el bloqueo vigente del dueño de {@code renewed}.
+     *
+     * @return el bloqueo reemplazado, o null si el asiento no es del usuario
+     */
+    private Hold renew(SeatKey key, Hold renewed, long now) {
+        ConcurrentHashMap<SeatKey, Hold> holds = stripeFor(key).holds;
+        while (true) {
+            Hold current = holds.get(key);
+            if (current == null || !current.isOwnedBy(renewed.owner(), now)) {
+                return null;
+            }
+            if (holds.replace(key, current, renewed)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Borra el bloqueo vigente del usuario. Los vencidos los limpia la rueda.
+     *
+     * @return true si se borró, false si el asiento no tenía un bloqueo
+     *         vigente del usuario
+     */
+    private boolean release(SeatKey key, UUID userId, long now) {
+        ConcurrentHashMap<SeatKey, Hold> holds = stripeFor(key).holds;
+        while (true) {
+            Hold current = holds.get(key);
+            if (current == null || !current.isOwnedBy(userId, now)) {
+                return false;
+            }
+            if (holds.remove(key, current)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Deshace una adquisición solo si nadie más modificó el asiento.
+     *
+     * <p>
+     * El bloqueo restaurado se vuelve a agendar: mientras estuvo reemplazado,
+     * el sweeper pudo descartar su entrada de la rueda.
+     * </p>
+     */
+    private void rollback(Acquisition acquisition, Hold written) {
+        Stripe stripe = stripeFor(acquisition.key());
+        if (acquisition.previous() == null) {
+            stripe.holds.remove(acquisition.key(), written);
+        } else if (stripe.holds.replace(acquisition.key(), written, acquisition.previous())) {
+            stripe.schedule(acquisition.key(), acquisition.previous());
+        }
+    }
+
+    private boolean isFreeFor(SeatKey key, UUID userId, long now) {
+        Hold current = stripeFor(key).holds.get(key);
+        return current == null || current.isExpired(now) || current.owner().equals(userId);
+    }
+
+    /**
+     * Avanza las ruedas hasta el tick actual y borra los bloqueos vencidos.
+     */
+    private void sweep() {
+        try {
+            long now = now();
+            long currentTick = tickOf(now);
+            int expired = 0;
+            for (Stripe stripe : stripes) {
+                expired += stripe.advance(currentTick, now);
+            }
+            if (expired > 0) {
+                log.debug("{} bloqueos de asiento expirados", expired);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error barriendo bloqueos de asiento expirados", e);
+        }
+    }
+
+    private Stripe stripeFor(SeatKey key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static long tickOf(long epochMillis) {
+        return epochMillis / TICK_MS;
+    }
+
+    private record SeatKey(UUID eventId, UUID seatId) {
+
+        @Override
+        public String toString() {
+            return eventId + ":" + seatId;
+        }
+    }
+
+    private record Hold(UUID owner, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        boolean isOwnedBy(UUID userId, long now) {
+            return !isExpired(now) && owner.equals(userId);
+        }
+    }
+
+    private record Acquisition(SeatKey key, Hold previous) {
+    }
+
+    /**
+     * Mapa de bloqueos de un stripe más su rueda de expiración.
+     */
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<SeatKey, Hold> holds = new ConcurrentHashMap<>();
+        private final Queue<SeatKey>[] slots;
+
+        /** Último tick barrido; solo lo modifica el hilo del sweeper */
+        private long cursor;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Stripe(long currentTick) {
+            slots = new Queue[WHEEL_SLOTS];
+            for (int i = 0; i < WHEEL_SLOTS; i++) {
+                slots[i] = new ConcurrentLinkedQueue<>();
+            }
+            cursor = currentTick;
+        }
+
+        void schedule(SeatKey key, Hold hold) {
+            slots[slotOf(tickOf(hold.expiresAt()))].add(key);
+        }
+
+        int advance(long currentTick, long now) {
+            int expired = 0;
+            // Tras una pausa larga basta con recorrer la rueda una vez
+            long from = Math.max(cursor + 1, currentTick - WHEEL_SLOTS + 1);
+            for (long tick = from; tick <= currentTick; tick++) {
+                int slot = slotOf(tick);
+                Queue<SeatKey> queue = slots[slot];
+                List<SeatKey> pending = new ArrayList<>();
+
+                SeatKey key;
+                while ((key = queue.poll()) != null) {
+                    Hold current = holds.get(key);
+                    if (current == null) {
+                        continue;
+                    }
+                    if (current.isExpired(now)) {
+                        if (holds.remove(key, current)) {
+                            expired++;
+                        }
+                    } else if (slotOf(tickOf(current.expiresAt())) == slot) {
+                        // Vence en una vuelta posterior de la rueda
+                        pending.add(key);
+                    }
+                    // Si no, fue renovado y ya está en otra ranura
+                }
+                queue.addAll(pending);
+            }
+            cursor = currentTick;
+            return expired;
+        }
+
+        private static int slotOf(long tick) {
+            return (int) (tick & (WHEEL_SLOTS - 1));
+        }
+    }
+}
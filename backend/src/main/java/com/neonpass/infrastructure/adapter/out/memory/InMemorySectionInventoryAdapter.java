@@ -0,0 +1,63 @@
+package com.neonpass.infrastructure.adapter.out.memory;
+
+import com.neonpass.domain.port.out.SectionInventory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapter en memoria del puerto SectionInventory, para despliegues de un
+ * solo nodo sin Redis.
+ *
+ * <p>
+ * Un {@link AtomicLong} por sección y evento; tomar entradas es un bucle
+ * compare-and-set sin locks.
+ * </p>
+ *
+ * <p>
+ * Activo con {@code inventory.provider=memory}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.provider", havingValue = "memory")
+public class InMemorySectionInventoryAdapter implements SectionInventory {
+
+    private record CounterKey(UUID eventId, UUID sectionId) {
+    }
+
+    private final ConcurrentHashMap<CounterKey, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public AcquireResult tryAcquire(UUID eventId, UUID sectionId, int quantity, int capacity) {
+        AtomicLong counter = counters.get(new CounterKey(eventId, sectionId));
+        if (counter == null) {
+            return AcquireResult.NOT_INITIALIZED;
+        }
+
+        long taken;
+        do {
+            taken = counter.get();
+            if (taken + quantity > capacity) {
+                return AcquireResult.SOLD_OUT;
+            }
+        } while (!counter.compareAndSet(taken, taken + quantity));
+
+        return AcquireResult.ACQUIRED;
+    }
+
+    @Override
+    public void initialize(UUID eventId, UUID sectionId, long sold) {
+        counters.putIfAbsent(new CounterKey(eventId, sectionId), new AtomicLong(sold));
+    }
+
+    @Override
+    public void release(UUID eventId, UUID sectionId, int quantity) {
+        AtomicLong counter = counters.get(new CounterKey(eventId, sectionId));
+        if (counter != null) {
+            counter.addAndGet(-quantity);
+        }
+    }
+}
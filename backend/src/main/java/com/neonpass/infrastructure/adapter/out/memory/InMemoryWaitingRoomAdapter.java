@@ -0,0 +1,104 @@
+package com.neonpass.infrastructure.adapter.out.memory;
+
+import com.neonpass.domain.port.out.WaitingRoomStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter en memoria del puerto WaitingRoomStore, para despliegues de un
+ * solo nodo sin Redis.
+ *
+ * <p>
+ * Con varios nodos cada uno tendría su propia fila: la sala solo se exige
+ * en el nodo donde se abrió. Por eso este adapter es exclusivo de un nodo.
+ * </p>
+ *
+ * <p>
+ * Activo con {@code waiting-room.provider=memory}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "waiting-room.provider", havingValue = "memory")
+public class InMemoryWaitingRoomAdapter implements WaitingRoomStore {
+
+    private final ConcurrentHashMap<UUID, Room> rooms = new ConcurrentHashMap<>();
+
+    @Override
+    public void open(UUID eventId, int admissionsPerSecond) {
+        rooms.compute(eventId, (id, room) -> {
+            if (room == null) {
+                return new Room(admissionsPerSecond);
+            }
+            room.setRate(admissionsPerSecond);
+            return room;
+        });
+    }
+
+    @Override
+    public void close(UUID eventId) {
+        rooms.remove(eventId);
+    }
+
+    @Override
+    public boolean isOpen(UUID eventId) {
+        return rooms.containsKey(eventId);
+    }
+
+    @Override
+    public OptionalLong issue(UUID eventId) {
+        Room room = rooms.get(eventId);
+        return room != null ? OptionalLong.of(room.issue()) : OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<Turn> turn(UUID eventId, long number) {
+        Room room = rooms.get(eventId);
+        return room != null ? Optional.of(room.turn(number, System.currentTimeMillis())) : Optional.empty();
+    }
+
+    /**
+     * Fila de un evento. La frontera de admisión avanza {@code rate} números
+     * por segundo sin superar los números emitidos, de modo que un periodo
+     * sin usuarios no acumula admisiones para una ráfaga posterior.
+     */
+    private static final class Room {
+
+        private final ConcurrentHashMap<Long, Long> admittedAt = new ConcurrentHashMap<>();
+        private long issued;
+        private int rate;
+        private double frontier;
+        private long updatedAt = System.currentTimeMillis();
+
+        private Room(int rate) {
+            this.rate = rate;
+        }
+
+        private synchronized void setRate(int rate) {
+            advance(System.currentTimeMillis());
+            this.rate = rate;
+        }
+
+        private synchronized long issue() {
+            return ++issued;
+        }
+
+        private synchronized Turn turn(long number, long now) {
+            long ahead = number - (long) advance(now);
+            if (ahead > 0) {
+                return new Turn(ahead, rate, 0);
+            }
+            return new Turn(0, rate, admittedAt.computeIfAbsent(number, n -> now));
+        }
+
+        private double advance(long now) {
+            frontier = Math.min(issued, frontier + rate * (now - updatedAt) / 1000.0);
+            updatedAt = now;
+            return frontier;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Capa de Infraestructura - Adaptadores en Memoria.
+ * 
+ * <p>
+ * Este paquete contiene implementaciones locales de puertos de salida que
+ * normalmente dependen de servicios externos (Redis), para despliegues de un
+ * solo nodo.
+ * </p>
+ * 
+ * @see com.neonpass.domain.port.out Puertos de salida
+ */
+package com.neonpass.infrastructure.adapter.out.memory;
@@ -1,6 +1,9 @@
 package com.neonpass.infrastructure.adapter.out.persistence.adapter;
 
 import com.neonpass.domain.model.Event;
+import com.neonpass.domain.model.EventSummary;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.enums.EventStatus;
 import com.neonpass.domain.port.out.EventRepository;
 import com.neonpass.infrastructure.adapter.out.persistence.mapper.EventMapper;
@@ -8,7 +11,12 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaEventRe
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -29,6 +37,13 @@ public class EventPersistenceAdapter implements EventRepository {
                 .map(eventMapper::toDomain);
     }
 
+    @Override
+    public List<Event> findAllById(Collection<UUID> ids) {
+        return jpaEventRepository.findAllById(ids).stream()
+                .map(eventMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Event> findByOrganizationId(UUID organizationId) {
         return jpaEventRepository.findByOrganizationId(organizationId).stream()
@@ -50,6 +65,37 @@ public class EventPersistenceAdapter implements EventRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PageResult<EventSummary> findPublishedSummaries(PageCursor after, int page, int size,
+            int descriptionLength) {
+        List<Object[]> rows = after == null
+                ? jpaEventRepository.findPublishedSummaries(descriptionLength, size, (long) page * size)
+                : jpaEventRepository.findPublishedSummariesAfter(after.timestamp(), after.id(), descriptionLength, size);
+
+        List<EventSummary> content = rows.stream()
+                .map(row -> EventSummary.builder()
+                        .id((UUID) row[0])
+                        .title((String) row[1])
+                        .description((String) row[2])
+                        .startTime(toLocalDateTime(row[3]))
+                        .endTime(toLocalDateTime(row[4]))
+                        .status(EventStatus.valueOf((String) row[5]))
+                        .thumbnailUrl((String) row[6])
+                        .venueName((String) row[7])
+                        .build())
+                .collect(Collectors.toList());
+
+        Long total = after == null ? jpaEventRepository.countByStatus(EventStatus.PUBLISHED) : null;
+        return new PageResult<>(content, total);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
     @Override
     public List<Event> findPublished() {
         return jpaEventRepository.findByStatusOrderByStartTimeAsc(EventStatus.PUBLISHED).stream()
@@ -70,4 +116,18 @@ public class EventPersistenceAdapter implements EventRepository {
         var saved = jpaEventRepository.save(entity);
         return eventMapper.toDomain(saved);
     }
+
+    @Override
+    public long count() {
+        return jpaEventRepository.count();
+    }
+
+    @Override
+    public Map<EventStatus, Long> countByStatus() {
+        Map<EventStatus, Long> counts = new EnumMap<>(EventStatus.class);
+        for (Object[] row : jpaEventRepository.countGroupByStatus()) {
+            counts.put((EventStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
 }
@@ -0,0 +1,70 @@
+package com.neonpass.infrastructure.adapter.out.persistence.adapter;
+
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Paginación por {@code (createdAt, id)} descendente para entidades con esos
+ * dos atributos.
+ *
+ * <p>
+ * Con cursor, la página se busca con
+ * {@code createdAt < c OR (createdAt = c AND id < i)} y {@code LIMIT}, sin
+ * desplazamiento ni {@code COUNT}: quien pagina por cursor sigue
+ * {@code nextCursor} y no necesita el total. Sin cursor se usa
+ * {@code OFFSET} con el total, para compatibilidad con clientes que piden
+ * páginas por número.
+ * </p>
+ */
+final class KeysetPagination {
+
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private KeysetPagination() {
+    }
+
+    static <E, D> PageResult<D> findPage(
+            JpaSpecificationExecutor<E> repository,
+            Specification<E> filter,
+            PageCursor after,
+            int page,
+            int size,
+            Function<E, D> mapper) {
+
+        if (after == null) {
+            Page<E> result = repository.findAll(filter, PageRequest.of(page, size, NEWEST_FIRST));
+            return new PageResult<>(result.map(mapper).getContent(), result.getTotalElements());
+        }
+
+        List<D> content = repository.findBy(filter.and(before(after)), query -> query
+                .sortBy(NEWEST_FIRST)
+                .limit(size)
+                .all())
+                .stream()
+                .map(mapper)
+                .toList();
+        return new PageResult<>(content, null);
+    }
+
+    static <E> Specification<E> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    private static <E> Specification<E> before(PageCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.timestamp()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.timestamp()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.id())));
+    }
+}
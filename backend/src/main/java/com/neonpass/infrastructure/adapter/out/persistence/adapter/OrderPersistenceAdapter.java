@@ -1,13 +1,20 @@
 package com.neonpass.infrastructure.adapter.out.persistence.adapter;
 
 import com.neonpass.domain.model.Order;
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.enums.OrderStatus;
 import com.neonpass.domain.port.out.OrderRepository;
+import com.neonpass.infrastructure.adapter.out.persistence.entity.OrderEntity;
 import com.neonpass.infrastructure.adapter.out.persistence.mapper.OrderMapper;
 import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaOrderRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +36,13 @@ public class OrderPersistenceAdapter implements OrderRepository {
                 .map(orderMapper::toDomain);
     }
 
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        return jpaOrderRepository.findAllById(ids).stream()
+                .map(orderMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Order> findByUserId(UUID userId) {
         return jpaOrderRepository.findByUserId(userId).stream()
@@ -63,4 +77,42 @@ public class OrderPersistenceAdapter implements OrderRepository {
         var saved = jpaOrderRepository.save(entity);
         return orderMapper.toDomain(saved);
     }
+
+    @Override
+    public OrderTotals sumTotals() {
+        Object[] row = jpaOrderRepository.sumTotals().get(0);
+        return new OrderTotals(
+                (Long) row[0],
+                row[1] != null ? (BigDecimal) row[1] : BigDecimal.ZERO,
+                row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO);
+    }
+
+    @Override
+    public List<OrderSale> findSalesSince(LocalDateTime since) {
+        return jpaOrderRepository.findSalesSince(since).stream()
+                .map(row -> new OrderSale(
+                        (UUID) row[0],
+                        (UUID) row[1],
+                        (LocalDateTime) row[2],
+                        row[3] != null ? (BigDecimal) row[3] : BigDecimal.ZERO,
+                        row[4] != null ? (BigDecimal) row[4] : BigDecimal.ZERO,
+                        (Long) row[5]))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public PageResult<Order> findPage(OrderStatus status, UUID eventId, UUID userId,
+            PageCursor after, int page, int size) {
+        Specification<OrderEntity> filter = KeysetPagination.all();
+        if (status != null) {
+            filter = filter.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (eventId != null) {
+            filter = filter.and((root, query, cb) -> cb.equal(root.get("eventId"), eventId));
+        }
+        if (userId != null) {
+            filter = filter.and((root, query, cb) -> cb.equal(root.get("userId"), userId));
+        }
+        return KeysetPagination.findPage(jpaOrderRepository, filter, after, page, size, orderMapper::toDomain);
+    }
 }
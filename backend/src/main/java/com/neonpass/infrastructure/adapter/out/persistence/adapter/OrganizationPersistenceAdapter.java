@@ -7,6 +7,7 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaOrganiz
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,13 @@ public class OrganizationPersistenceAdapter implements OrganizationRepository {
                 .map(organizationMapper::toDomain);
     }
 
+    @Override
+    public List<Organization> findAllById(Collection<UUID> ids) {
+        return jpaOrganizationRepository.findAllById(ids).stream()
+                .map(organizationMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Organization> findBySlug(String slug) {
         return jpaOrganizationRepository.findBySlug(slug)
@@ -59,4 +67,9 @@ public class OrganizationPersistenceAdapter implements OrganizationRepository {
                 .map(organizationMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public long count() {
+        return jpaOrganizationRepository.count();
+    }
 }
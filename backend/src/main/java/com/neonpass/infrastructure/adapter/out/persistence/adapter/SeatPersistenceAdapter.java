@@ -7,6 +7,7 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaSeatRep
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +36,20 @@ public class SeatPersistenceAdapter implements SeatRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Seat> findAllById(Collection<UUID> ids) {
+        return jpaSeatRepository.findAllById(ids).stream()
+                .map(seatMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Seat> findBySectionIdIn(Collection<UUID> sectionIds) {
+        return jpaSeatRepository.findBySectionIdIn(sectionIds).stream()
+                .map(seatMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Seat> findAvailableSeats(UUID sectionId, UUID eventId) {
         return jpaSeatRepository.findAvailableSeats(sectionId, eventId).stream()
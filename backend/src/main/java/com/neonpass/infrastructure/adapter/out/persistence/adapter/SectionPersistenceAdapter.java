@@ -7,6 +7,7 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaSection
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,13 @@ public class SectionPersistenceAdapter implements SectionRepository {
                 .map(sectionMapper::toDomain);
     }
 
+    @Override
+    public List<Section> findAllById(Collection<UUID> ids) {
+        return jpaSectionRepository.findAllById(ids).stream()
+                .map(sectionMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Section> findByVenueId(UUID venueId) {
         return jpaSectionRepository.findByVenueId(venueId).stream()
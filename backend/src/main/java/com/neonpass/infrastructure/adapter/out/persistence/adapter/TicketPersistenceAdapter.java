@@ -8,8 +8,13 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaTicketR
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,6 +34,13 @@ public class TicketPersistenceAdapter implements TicketRepository {
                 .map(ticketMapper::toDomain);
     }
 
+    @Override
+    public List<Ticket> findAllById(Collection<UUID> ids) {
+        return jpaTicketRepository.findAllById(ids).stream()
+                .map(ticketMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Ticket> findByOrderId(UUID orderId) {
         return jpaTicketRepository.findByOrderId(orderId).stream()
@@ -36,6 +48,20 @@ public class TicketPersistenceAdapter implements TicketRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Ticket> findByOrderIdIn(Collection<UUID> orderIds) {
+        return jpaTicketRepository.findByOrderIdIn(orderIds).stream()
+                .map(ticketMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Ticket> findMissingFromWallet(UUID after, int limit) {
+        return jpaTicketRepository.findMissingFromWallet(after, limit).stream()
+                .map(ticketMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Ticket> findByEventId(UUID eventId) {
         return jpaTicketRepository.findByEventId(eventId).stream()
@@ -59,6 +85,34 @@ public class TicketPersistenceAdapter implements TicketRepository {
         return jpaTicketRepository.existsByEventIdAndSeatIdAndStatusIn(eventId, seatId, statuses);
     }
 
+    @Override
+    public List<UUID> findSeatIdsByEventIdAndStatusIn(UUID eventId, List<TicketStatus> statuses) {
+        return jpaTicketRepository.findSeatIdsByEventIdAndStatusIn(eventId, statuses);
+    }
+
+    @Override
+    public List<UUID> findSeatIdsByEventIdAndSeatIdInAndStatusIn(
+            UUID eventId, Collection<UUID> seatIds, List<TicketStatus> statuses) {
+        return jpaTicketRepository.findSeatIdsByEventIdAndSeatIdInAndStatusIn(eventId, seatIds, statuses);
+    }
+
+    @Override
+    public long countByEventIdAndSectionIdAndStatusIn(UUID eventId, UUID sectionId, List<TicketStatus> statuses) {
+        return jpaTicketRepository.countByEventIdAndSectionIdAndStatusIn(eventId, sectionId, statuses);
+    }
+
+    @Override
+    public Map<UUID, Long> countByOrderIdIn(Collection<UUID> orderIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        if (orderIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : jpaTicketRepository.countGroupByOrderIdIn(orderIds)) {
+            counts.put((UUID) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     public List<Ticket> findAll() {
         return jpaTicketRepository.findAll().stream()
@@ -66,10 +120,49 @@ public class TicketPersistenceAdapter implements TicketRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<Ticket> redeem(UUID ticketId, UUID validatedBy, LocalDateTime scannedAt) {
+        return jpaTicketRepository.redeem(ticketId, UUID.randomUUID(), validatedBy, scannedAt)
+                .map(ticketMapper::toDomain);
+    }
+
+    @Override
+    public List<Ticket> redeemAll(Collection<UUID> ticketIds, UUID validatedBy, LocalDateTime scannedAt) {
+        return jpaTicketRepository.redeemAll(ticketIds, validatedBy, scannedAt).stream()
+                .map(ticketMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Ticket> redeemOffline(UUID eventId, Map<UUID, LocalDateTime> scans, UUID validatedBy,
+            LocalDateTime syncedAt, String locationMetadata) {
+        StringJoiner ticketIds = new StringJoiner(",", "{", "}");
+        StringJoiner scannedAts = new StringJoiner(",", "{", "}");
+        scans.forEach((ticketId, scannedAt) -> {
+            ticketIds.add(ticketId.toString());
+            scannedAts.add("\"" + scannedAt + "\"");
+        });
+
+        return jpaTicketRepository.redeemOffline(eventId, ticketIds.toString(), scannedAts.toString(),
+                validatedBy, syncedAt, locationMetadata).stream()
+                .map(ticketMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UUID> findIdsByEventIdAndStatus(UUID eventId, TicketStatus status) {
+        return jpaTicketRepository.findIdsByEventIdAndStatus(eventId, status);
+    }
+
     @Override
     public Ticket save(Ticket ticket) {
         var entity = ticketMapper.toEntity(ticket);
         var saved = jpaTicketRepository.save(entity);
         return ticketMapper.toDomain(saved);
     }
+
+    @Override
+    public long count() {
+        return jpaTicketRepository.count();
+    }
 }
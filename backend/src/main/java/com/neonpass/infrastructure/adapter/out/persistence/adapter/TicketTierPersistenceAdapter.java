@@ -7,6 +7,7 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaTicketT
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,13 @@ public class TicketTierPersistenceAdapter implements TicketTierRepository {
                 .map(ticketTierMapper::toDomain);
     }
 
+    @Override
+    public List<TicketTier> findAllById(Collection<UUID> ids) {
+        return jpaTicketTierRepository.findAllById(ids).stream()
+                .map(ticketTierMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<TicketTier> findByEventId(UUID eventId) {
         return jpaTicketTierRepository.findByEventId(eventId).stream()
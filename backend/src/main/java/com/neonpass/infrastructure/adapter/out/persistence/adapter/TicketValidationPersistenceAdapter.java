@@ -7,6 +7,7 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaTicketV
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,4 +42,9 @@ public class TicketValidationPersistenceAdapter implements TicketValidationRepos
         var saved = jpaTicketValidationRepository.save(entity);
         return ticketValidationMapper.toDomain(saved);
     }
+
+    @Override
+    public List<UUID> findTicketIdsValidatedSince(UUID eventId, LocalDateTime since) {
+        return jpaTicketValidationRepository.findTicketIdsValidatedSince(eventId, since);
+    }
 }
@@ -1,13 +1,19 @@
 package com.neonpass.infrastructure.adapter.out.persistence.adapter;
 
+import com.neonpass.domain.model.PageCursor;
+import com.neonpass.domain.model.PageResult;
 import com.neonpass.domain.model.User;
+import com.neonpass.domain.model.enums.UserRole;
 import com.neonpass.domain.port.out.UserRepository;
 import com.neonpass.infrastructure.adapter.out.persistence.mapper.UserMapper;
 import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +40,13 @@ public class UserPersistenceAdapter implements UserRepository {
                 .map(userMapper::toDomain);
     }
 
+    @Override
+    public List<User> findAllById(Collection<UUID> ids) {
+        return jpaUserRepository.findAllById(ids).stream()
+                .map(userMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<User> findAll() {
         return jpaUserRepository.findAll().stream()
@@ -52,4 +65,24 @@ public class UserPersistenceAdapter implements UserRepository {
     public boolean existsByEmail(String email) {
         return jpaUserRepository.existsByEmail(email);
     }
+
+    @Override
+    public long count() {
+        return jpaUserRepository.count();
+    }
+
+    @Override
+    public Map<UserRole, Long> countByRole() {
+        Map<UserRole, Long> counts = new EnumMap<>(UserRole.class);
+        for (Object[] row : jpaUserRepository.countGroupByRole()) {
+            counts.put((UserRole) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public PageResult<User> findPage(PageCursor after, int page, int size) {
+        return KeysetPagination.findPage(jpaUserRepository, KeysetPagination.all(), after, page, size,
+                userMapper::toDomain);
+    }
 }
@@ -7,6 +7,7 @@ import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaVenueRe
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,13 @@ public class VenuePersistenceAdapter implements VenueRepository {
                 .map(venueMapper::toDomain);
     }
 
+    @Override
+    public List<Venue> findAllById(Collection<UUID> ids) {
+        return jpaVenueRepository.findAllById(ids).stream()
+                .map(venueMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Venue> findByOrganizationId(UUID organizationId) {
         return jpaVenueRepository.findByOrganizationId(organizationId).stream()
@@ -48,4 +56,9 @@ public class VenuePersistenceAdapter implements VenueRepository {
                 .map(venueMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public long count() {
+        return jpaVenueRepository.count();
+    }
 }
@@ -0,0 +1,96 @@
+package com.neonpass.infrastructure.adapter.out.persistence.adapter;
+
+import com.neonpass.domain.model.WalletTicket;
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.domain.port.out.WalletTicketRepository;
+import com.neonpass.infrastructure.adapter.out.persistence.mapper.WalletTicketMapper;
+import com.neonpass.infrastructure.adapter.out.persistence.repository.JpaWalletTicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter que implementa el puerto de salida WalletTicketRepository.
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletTicketPersistenceAdapter implements WalletTicketRepository {
+
+    private final JpaWalletTicketRepository jpaWalletTicketRepository;
+    private final WalletTicketMapper walletTicketMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO wallet_tickets (ticket_id, user_id, order_id, event_id, event_title, event_date,
+                venue_name, venue_address, section_name, row_label, seat_number, tier_name,
+                price, currency, qr_code_hash, status, scanned_at, purchased_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (ticket_id) DO NOTHING
+            """;
+
+    private static final int[] INSERT_TYPES = {
+            Types.OTHER, Types.OTHER, Types.OTHER, Types.OTHER,
+            Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.NUMERIC, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP };
+
+    @Override
+    public Optional<WalletTicket> findByTicketId(UUID ticketId) {
+        return jpaWalletTicketRepository.findById(ticketId)
+                .map(walletTicketMapper::toDomain);
+    }
+
+    @Override
+    public List<WalletTicket> findByUserId(UUID userId) {
+        return jpaWalletTicketRepository.findByUserIdOrderByPurchasedAtAscTicketIdAsc(userId).stream()
+                .map(walletTicketMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Un checkout y el backfill pueden escribir el mismo ticket a la vez;
+     * {@code ON CONFLICT DO NOTHING} evita violar la clave primaria. Corre
+     * en la transacción JPA en curso.
+     */
+    @Override
+    public void insertMissing(List<WalletTicket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = tickets.stream()
+                .map(t -> new Object[] {
+                        t.getTicketId(), t.getUserId(), t.getOrderId(), t.getEventId(),
+                        t.getEventTitle(), t.getEventDate(), t.getVenueName(), t.getVenueAddress(),
+                        t.getSectionName(), t.getRow(), t.getSeatNumber(), t.getTierName(),
+                        t.getPrice(), t.getCurrency(), t.getQrCodeHash(),
+                        t.getStatus().name(), t.getScannedAt(), t.getPurchasedAt() })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, rows, INSERT_TYPES);
+    }
+
+    @Override
+    public void updateStatus(UUID ticketId, TicketStatus status, LocalDateTime scannedAt) {
+        jpaWalletTicketRepository.updateStatus(ticketId, status, scannedAt);
+    }
+
+    @Override
+    public void updateStatusIn(Collection<UUID> ticketIds, TicketStatus status, LocalDateTime scannedAt) {
+        jpaWalletTicketRepository.updateStatusIn(ticketIds, status, scannedAt);
+    }
+
+    @Override
+    public void updateEventInfo(UUID eventId, String eventTitle, LocalDateTime eventDate,
+            String venueName, String venueAddress) {
+        jpaWalletTicketRepository.updateEventInfo(eventId, eventTitle, eventDate, venueName, venueAddress);
+    }
+}
@@ -18,7 +18,9 @@ import java.util.UUID;
  * Entidad JPA para la tabla events.
  */
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_start", columnList = "status, start_time, id")
+})
 @SQLDelete(sql = "UPDATE events SET deleted = true WHERE id = ?")
 @SQLRestriction("deleted = false")
 @EntityListeners(AuditingEntityListener.class)
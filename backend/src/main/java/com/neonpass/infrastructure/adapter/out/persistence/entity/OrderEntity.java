@@ -15,7 +15,12 @@ import java.util.UUID;
  * Entidad JPA para la tabla orders.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created", columnList = "created_at, id"),
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_orders_event_created", columnList = "event_id, created_at, id"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @Builder
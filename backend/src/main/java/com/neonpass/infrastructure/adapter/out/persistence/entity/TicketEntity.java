@@ -16,6 +16,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "tickets", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "event_id", "seat_id" })
+}, indexes = {
+        @Index(name = "idx_tickets_order", columnList = "order_id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -40,6 +42,10 @@ public class TicketEntity {
     @Column(name = "seat_id")
     private UUID seatId;
 
+    /** Sección de admisión general (null para tickets con asiento) */
+    @Column(name = "section_id")
+    private UUID sectionId;
+
     /** Precio congelado al momento de la compra */
     @Column(name = "price_snapshot", nullable = false, precision = 10, scale = 2)
     private BigDecimal priceSnapshot;
@@ -16,7 +16,9 @@ import java.util.UUID;
  * Registro de auditoría para validaciones de tickets en puerta.
  */
 @Entity
-@Table(name = "ticket_validations")
+@Table(name = "ticket_validations", indexes = {
+        @Index(name = "idx_ticket_validations_validated_at", columnList = "validated_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @Builder
@@ -16,7 +16,9 @@ import java.util.UUID;
  * Entidad JPA para la tabla users.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created", columnList = "created_at, id")
+})
 @SQLDelete(sql = "UPDATE users SET deleted = true WHERE id = ?")
 @SQLRestriction("deleted = false")
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,80 @@
+package com.neonpass.infrastructure.adapter.out.persistence.entity;
+
+import com.neonpass.domain.model.enums.TicketStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA para la tabla wallet_tickets (modelo de lectura de la
+ * billetera, una fila por ticket).
+ */
+@Entity
+@Table(name = "wallet_tickets", indexes = {
+        @Index(name = "idx_wallet_tickets_user", columnList = "user_id, purchased_at"),
+        @Index(name = "idx_wallet_tickets_event", columnList = "event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletTicketEntity {
+
+    @Id
+    @Column(name = "ticket_id")
+    private UUID ticketId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @Column(name = "event_title")
+    private String eventTitle;
+
+    @Column(name = "event_date")
+    private LocalDateTime eventDate;
+
+    @Column(name = "venue_name")
+    private String venueName;
+
+    @Column(name = "venue_address")
+    private String venueAddress;
+
+    @Column(name = "section_name")
+    private String sectionName;
+
+    @Column(name = "row_label")
+    private String row;
+
+    @Column(name = "seat_number")
+    private String seatNumber;
+
+    @Column(name = "tier_name")
+    private String tierName;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal price;
+
+    private String currency;
+
+    @Column(name = "qr_code_hash", length = 512)
+    private String qrCodeHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TicketStatus status;
+
+    @Column(name = "scanned_at")
+    private LocalDateTime scannedAt;
+
+    @Column(name = "purchased_at")
+    private LocalDateTime purchasedAt;
+}
@@ -0,0 +1,16 @@
+package com.neonpass.infrastructure.adapter.out.persistence.mapper;
+
+import com.neonpass.domain.model.WalletTicket;
+import com.neonpass.infrastructure.adapter.out.persistence.entity.WalletTicketEntity;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper para conversión entre WalletTicket (domain) y WalletTicketEntity (JPA).
+ */
+@Mapper(componentModel = "spring")
+public interface WalletTicketMapper {
+
+    WalletTicket toDomain(WalletTicketEntity entity);
+
+    WalletTicketEntity toEntity(WalletTicket domain);
+}
@@ -3,8 +3,11 @@ package com.neonpass.infrastructure.adapter.out.persistence.repository;
 import com.neonpass.domain.model.enums.EventStatus;
 import com.neonpass.infrastructure.adapter.out.persistence.entity.EventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +27,55 @@ public interface JpaEventRepository extends JpaRepository<EventEntity, UUID> {
      * Busca eventos publicados.
      */
     List<EventEntity> findByStatusOrderByStartTimeAsc(EventStatus status);
+
+    /**
+     * Filas {@code [estado, cantidad]}.
+     */
+    @Query("SELECT e.status, COUNT(e) FROM EventEntity e GROUP BY e.status")
+    List<Object[]> countGroupByStatus();
+
+    long countByStatus(EventStatus status);
+
+    /**
+     * Filas {@code [id, title, description, start_time, end_time, status,
+     * thumbnail_url, venue_name]} de eventos publicados. La miniatura se
+     * extrae del jsonb sin devolver {@code metadata}.
+     */
+    @Query(value = """
+            SELECT e.id, e.title, LEFT(e.description, :descriptionLength), e.start_time, e.end_time, e.status,
+                COALESCE(e.metadata #>> '{media,images,thumbnail,url}',
+                         e.metadata #>> '{media,images,banner,url}'),
+                v.name
+            FROM events e
+            LEFT JOIN venues v ON v.id = e.venue_id AND v.deleted = false
+            WHERE e.status = 'PUBLISHED' AND e.deleted = false
+            ORDER BY e.start_time, e.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Object[]> findPublishedSummaries(
+            @Param("descriptionLength") int descriptionLength,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    /**
+     * Igual que {@link #findPublishedSummaries} pero desde la posición
+     * {@code (startTime, id)}, sin desplazamiento.
+     */
+    @Query(value = """
+            SELECT e.id, e.title, LEFT(e.description, :descriptionLength), e.start_time, e.end_time, e.status,
+                COALESCE(e.metadata #>> '{media,images,thumbnail,url}',
+                         e.metadata #>> '{media,images,banner,url}'),
+                v.name
+            FROM events e
+            LEFT JOIN venues v ON v.id = e.venue_id AND v.deleted = false
+            WHERE e.status = 'PUBLISHED' AND e.deleted = false
+            AND (e.start_time, e.id) > (:afterStartTime, :afterId)
+            ORDER BY e.start_time, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> findPublishedSummariesAfter(
+            @Param("afterStartTime") LocalDateTime afterStartTime,
+            @Param("afterId") UUID afterId,
+            @Param("descriptionLength") int descriptionLength,
+            @Param("limit") int limit);
 }
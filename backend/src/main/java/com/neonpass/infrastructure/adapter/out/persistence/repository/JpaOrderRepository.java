@@ -3,8 +3,12 @@ package com.neonpass.infrastructure.adapter.out.persistence.repository;
 import com.neonpass.domain.model.enums.OrderStatus;
 import com.neonpass.infrastructure.adapter.out.persistence.entity.OrderEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,11 +16,29 @@ import java.util.UUID;
  * Repositorio Spring Data JPA para órdenes.
  */
 @Repository
-public interface JpaOrderRepository extends JpaRepository<OrderEntity, UUID> {
+public interface JpaOrderRepository extends JpaRepository<OrderEntity, UUID>, JpaSpecificationExecutor<OrderEntity> {
 
     List<OrderEntity> findByUserId(UUID userId);
 
     List<OrderEntity> findByEventId(UUID eventId);
 
     List<OrderEntity> findByUserIdAndStatus(UUID userId, OrderStatus status);
+
+    /**
+     * Una fila {@code [cantidad, suma totalAmount, suma platformFee]}; las
+     * sumas son null si no hay órdenes.
+     */
+    @Query("SELECT COUNT(o), SUM(o.totalAmount), SUM(o.platformFee) FROM OrderEntity o")
+    List<Object[]> sumTotals();
+
+    /**
+     * Filas {@code [id, eventId, createdAt, totalAmount, platformFee, tickets]}.
+     */
+    @Query("""
+            SELECT o.id, o.eventId, o.createdAt, o.totalAmount, o.platformFee,
+                (SELECT COUNT(t) FROM TicketEntity t WHERE t.orderId = o.id)
+            FROM OrderEntity o
+            WHERE o.createdAt >= :since
+            """)
+    List<Object[]> findSalesSince(@Param("since") LocalDateTime since);
 }
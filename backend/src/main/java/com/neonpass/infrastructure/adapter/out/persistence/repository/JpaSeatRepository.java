@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +18,8 @@ public interface JpaSeatRepository extends JpaRepository<SeatEntity, UUID> {
 
     List<SeatEntity> findBySectionId(UUID sectionId);
 
+    List<SeatEntity> findBySectionIdIn(Collection<UUID> sectionIds);
+
     /**
      * Busca asientos disponibles para un evento.
      * Excluye asientos que ya tienen ticket vendido para ese evento.
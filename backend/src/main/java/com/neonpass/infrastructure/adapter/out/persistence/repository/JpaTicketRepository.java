@@ -3,8 +3,12 @@ package com.neonpass.infrastructure.adapter.out.persistence.repository;
 import com.neonpass.domain.model.enums.TicketStatus;
 import com.neonpass.infrastructure.adapter.out.persistence.entity.TicketEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +21,8 @@ public interface JpaTicketRepository extends JpaRepository<TicketEntity, UUID> {
 
     List<TicketEntity> findByOrderId(UUID orderId);
 
+    List<TicketEntity> findByOrderIdIn(Collection<UUID> orderIds);
+
     List<TicketEntity> findByEventId(UUID eventId);
 
     Optional<TicketEntity> findByQrCodeHash(String qrCodeHash);
@@ -24,4 +30,136 @@ public interface JpaTicketRepository extends JpaRepository<TicketEntity, UUID> {
     boolean existsByEventIdAndSeatId(UUID eventId, UUID seatId);
 
     boolean existsByEventIdAndSeatIdAndStatusIn(UUID eventId, UUID seatId, List<TicketStatus> statuses);
+
+    long countByEventIdAndSectionIdAndStatusIn(UUID eventId, UUID sectionId, List<TicketStatus> statuses);
+
+    /**
+     * Filas {@code [orderId, cantidad]}. Recorre solo las órdenes pedidas por
+     * {@code idx_tickets_order}.
+     */
+    @Query("""
+            SELECT t.orderId, COUNT(t) FROM TicketEntity t
+            WHERE t.orderId IN :orderIds
+            GROUP BY t.orderId
+            """)
+    List<Object[]> countGroupByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Query("""
+            SELECT t.seatId FROM TicketEntity t
+            WHERE t.eventId = :eventId
+            AND t.seatId IS NOT NULL
+            AND t.status IN :statuses
+            """)
+    List<UUID> findSeatIdsByEventIdAndStatusIn(
+            @Param("eventId") UUID eventId,
+            @Param("statuses") List<TicketStatus> statuses);
+
+    @Query("""
+            SELECT t.seatId FROM TicketEntity t
+            WHERE t.eventId = :eventId
+            AND t.seatId IN :seatIds
+            AND t.status IN :statuses
+            """)
+    List<UUID> findSeatIdsByEventIdAndSeatIdInAndStatusIn(
+            @Param("eventId") UUID eventId,
+            @Param("seatIds") Collection<UUID> seatIds,
+            @Param("statuses") List<TicketStatus> statuses);
+
+    /**
+     * Canjea el ticket y registra la validación en la misma sentencia.
+     */
+    @Query(value = """
+            WITH redeemed AS (
+                UPDATE tickets SET status = 'USED', scanned_at = :scannedAt
+                WHERE id = :ticketId AND status = 'VALID'
+                RETURNING *
+            ), validation AS (
+                INSERT INTO ticket_validations (id, ticket_id, validated_by, validated_at, status)
+                SELECT CAST(:validationId AS uuid), id, CAST(:validatedBy AS uuid),
+                       CAST(:scannedAt AS timestamp), 'SUCCESS'
+                FROM redeemed
+            )
+            SELECT * FROM redeemed
+            """, nativeQuery = true)
+    Optional<TicketEntity> redeem(
+            @Param("ticketId") UUID ticketId,
+            @Param("validationId") UUID validationId,
+            @Param("validatedBy") UUID validatedBy,
+            @Param("scannedAt") LocalDateTime scannedAt);
+
+    /**
+     * Canjea varios tickets y registra sus validaciones en la misma sentencia.
+     */
+    @Query(value = """
+            WITH redeemed AS (
+                UPDATE tickets SET status = 'USED', scanned_at = :scannedAt
+                WHERE id IN (:ticketIds) AND status = 'VALID'
+                RETURNING *
+            ), validation AS (
+                INSERT INTO ticket_validations (id, ticket_id, validated_by, validated_at, status)
+                SELECT gen_random_uuid(), id, CAST(:validatedBy AS uuid),
+                       CAST(:scannedAt AS timestamp), 'SUCCESS'
+                FROM redeemed
+            )
+            SELECT * FROM redeemed
+            """, nativeQuery = true)
+    List<TicketEntity> redeemAll(
+            @Param("ticketIds") Collection<UUID> ticketIds,
+            @Param("validatedBy") UUID validatedBy,
+            @Param("scannedAt") LocalDateTime scannedAt);
+
+    /**
+     * Canjea escaneos sin conexión. Los arrays llegan como literales de texto
+     * de Postgres ({@code {a,b}}) y se recorren en paralelo con unnest.
+     */
+    @Query(value = """
+            WITH scans AS (
+                SELECT * FROM unnest(CAST(:ticketIds AS uuid[]), CAST(:scannedAts AS timestamp[]))
+                    AS s(ticket_id, scanned_at)
+            ), redeemed AS (
+                UPDATE tickets t SET status = 'USED', scanned_at = s.scanned_at
+                FROM scans s
+                WHERE t.id = s.ticket_id AND t.event_id = :eventId AND t.status = 'VALID'
+                RETURNING t.*
+            ), validation AS (
+                INSERT INTO ticket_validations (id, ticket_id, validated_by, validated_at, location_metadata, status)
+                SELECT gen_random_uuid(), id, CAST(:validatedBy AS uuid), CAST(:syncedAt AS timestamp),
+                       CAST(:locationMetadata AS jsonb), 'SUCCESS'
+                FROM redeemed
+            )
+            SELECT * FROM redeemed
+            """, nativeQuery = true)
+    List<TicketEntity> redeemOffline(
+            @Param("eventId") UUID eventId,
+            @Param("ticketIds") String ticketIds,
+            @Param("scannedAts") String scannedAts,
+            @Param("validatedBy") UUID validatedBy,
+            @Param("syncedAt") LocalDateTime syncedAt,
+            @Param("locationMetadata") String locationMetadata);
+
+    @Query("""
+            SELECT t.id FROM TicketEntity t
+            WHERE t.eventId = :eventId
+            AND t.status = :status
+            """)
+    List<UUID> findIdsByEventIdAndStatus(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketStatus status);
+
+    /**
+     * Tickets sin fila en la billetera. {@code FOR SHARE} bloquea los canjes
+     * de la tanda hasta que su transacción inserte las filas, de modo que la
+     * actualización de estado del canje siempre encuentra la fila.
+     */
+    @Query(value = """
+            SELECT t.* FROM tickets t
+            WHERE t.id > :after
+            AND NOT EXISTS (SELECT 1 FROM wallet_tickets w WHERE w.ticket_id = t.id)
+            ORDER BY t.id
+            LIMIT :limit
+            FOR SHARE OF t
+            """, nativeQuery = true)
+    List<TicketEntity> findMissingFromWallet(
+            @Param("after") UUID after,
+            @Param("limit") int limit);
 }
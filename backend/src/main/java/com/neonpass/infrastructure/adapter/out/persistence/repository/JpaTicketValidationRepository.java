@@ -2,8 +2,11 @@ package com.neonpass.infrastructure.adapter.out.persistence.repository;
 
 import com.neonpass.infrastructure.adapter.out.persistence.entity.TicketValidationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +19,15 @@ public interface JpaTicketValidationRepository extends JpaRepository<TicketValid
     List<TicketValidationEntity> findByTicketId(UUID ticketId);
 
     List<TicketValidationEntity> findByTicketIdOrderByValidatedAtDesc(UUID ticketId);
+
+    @Query("""
+            SELECT DISTINCT v.ticketId FROM TicketValidationEntity v, TicketEntity t
+            WHERE t.id = v.ticketId
+            AND t.eventId = :eventId
+            AND v.status = com.neonpass.domain.model.enums.ValidationStatus.SUCCESS
+            AND v.validatedAt >= :since
+            """)
+    List<UUID> findTicketIdsValidatedSince(
+            @Param("eventId") UUID eventId,
+            @Param("since") LocalDateTime since);
 }
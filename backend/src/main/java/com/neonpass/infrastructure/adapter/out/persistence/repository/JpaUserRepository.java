@@ -2,8 +2,11 @@ package com.neonpass.infrastructure.adapter.out.persistence.repository;
 
 import com.neonpass.infrastructure.adapter.out.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,9 +14,15 @@ import java.util.UUID;
  * Repositorio Spring Data JPA para usuarios.
  */
 @Repository
-public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
+public interface JpaUserRepository extends JpaRepository<UserEntity, UUID>, JpaSpecificationExecutor<UserEntity> {
 
     Optional<UserEntity> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Filas {@code [rol, cantidad]}.
+     */
+    @Query("SELECT u.role, COUNT(u) FROM UserEntity u GROUP BY u.role")
+    List<Object[]> countGroupByRole();
 }
@@ -0,0 +1,60 @@
+package com.neonpass.infrastructure.adapter.out.persistence.repository;
+
+import com.neonpass.domain.model.enums.TicketStatus;
+import com.neonpass.infrastructure.adapter.out.persistence.entity.WalletTicketEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositorio Spring Data JPA para el modelo de lectura de la billetera.
+ */
+@Repository
+public interface JpaWalletTicketRepository extends JpaRepository<WalletTicketEntity, UUID> {
+
+    List<WalletTicketEntity> findByUserIdOrderByPurchasedAtAscTicketIdAsc(UUID userId);
+
+    @Modifying
+    @Query("""
+            UPDATE WalletTicketEntity w
+            SET w.status = :status, w.scannedAt = :scannedAt
+            WHERE w.ticketId = :ticketId
+            """)
+    int updateStatus(
+            @Param("ticketId") UUID ticketId,
+            @Param("status") TicketStatus status,
+            @Param("scannedAt") LocalDateTime scannedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE WalletTicketEntity w
+            SET w.status = :status, w.scannedAt = :scannedAt
+            WHERE w.ticketId IN :ticketIds
+            """)
+    int updateStatusIn(
+            @Param("ticketIds") Collection<UUID> ticketIds,
+            @Param("status") TicketStatus status,
+            @Param("scannedAt") LocalDateTime scannedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE WalletTicketEntity w
+            SET w.eventTitle = :eventTitle, w.eventDate = :eventDate,
+                w.venueName = :venueName, w.venueAddress = :venueAddress
+            WHERE w.eventId = :eventId
+            """)
+    int updateEventInfo(
+            @Param("eventId") UUID eventId,
+            @Param("eventTitle") String eventTitle,
+            @Param("eventDate") LocalDateTime eventDate,
+            @Param("venueName") String venueName,
+            @Param("venueAddress") String venueAddress);
+
+}
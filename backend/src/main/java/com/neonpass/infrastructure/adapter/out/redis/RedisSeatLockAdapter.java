@@ -0,0 +1,359 @@
+package com.neonpass.infrastructure.adapter.out.redis;
+
+import com.neonpass.domain.port.out.SeatLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa el puerto de salida SeatLock usando Redis.
+ *
+ * <p>
+ * Implementa el patrón de Seat Locking según REDIS_PATTERNS.md:
+ * </p>
+ * <ul>
+ * <li>Key: seat:lock:{eventId}:{seatId}</li>
+ * <li>Value: userId</li>
+ * <li>TTL: 10 minutos</li>
+ * </ul>
+ *
+ * <p>
+ * Las operaciones que dependen del dueño del bloqueo y las que afectan a
+ * varios asientos se ejecutan como scripts Lua para que Redis las aplique de
+ * forma atómica en un solo round trip.
+ * </p>
+ *
+ * <p>
+ * Activo por defecto ({@code seat-lock.provider=redis}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "seat-lock.provider", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisSeatLockAdapter implements SeatLock {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String SEAT_LOCK_PREFIX = "seat:lock:";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    /** Resultados de {@link #RELEASE_SCRIPT} */
+    private static final long RELEASED = 1L;
+    private static final long NOT_LOCKED = 2L;
+
+    /**
+     * Bloquea todas las keys o ninguna. Si alguna pertenece a otro usuario
+     * devuelve sus índices (1-based) sin escribir nada; las keys que ya son
+     * del mismo usuario se renuevan.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LOCK_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local conflicts = {}
+            for i, key in ipairs(KEYS) do
+                local owner = redis.call('GET', key)
+                if owner and owner ~= ARGV[1] then
+                    table.insert(conflicts, i)
+                end
+            end
+            if #conflicts > 0 then
+                return conflicts
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+            end
+            return conflicts
+            """, List.class);
+
+    /**
+     * Compare-and-delete: borra la key solo si pertenece al usuario.
+     * Devuelve {@link #RELEASED} si la borró, {@link #NOT_LOCKED} si no
+     * existía y 0 si es de otro usuario.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                return 2
+            end
+            if owner == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * Compare-and-delete múltiple. Devuelve cuántas keys se borraron; las de
+     * otros usuarios no se tocan.
+     */
+    private static final RedisScript<Long> RELEASE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('GET', key) == ARGV[1] then
+                    redis.call('DEL', key)
+                    released = released + 1
+                end
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * Compare-and-expire: renueva el TTL solo si la key pertenece al usuario.
+     */
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * Compare-and-expire múltiple, todo o nada. Si alguna key no pertenece al
+     * usuario devuelve sus índices (1-based) sin renovar ninguna.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> EXTEND_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local missing = {}
+            for i, key in ipairs(KEYS) do
+                if redis.call('GET', key) ~= ARGV[1] then
+                    table.insert(missing, i)
+                end
+            end
+            if #missing > 0 then
+                return missing
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('PEXPIRE', key, ARGV[2])
+            end
+            return missing
+            """, List.class);
+
+    /**
+     * Intenta bloquear un asiento para un usuario.
+     *
+     * @param eventId ID del evento
+     * @param seatId  ID del asiento
+     * @param userId  ID del usuario que bloquea
+     * @return true si el bloqueo fue exitoso, false si ya está bloqueado
+     */
+    @Override
+    public boolean lockSeat(UUID eventId, UUID seatId, UUID userId) {
+        String key = buildKey(eventId, seatId);
+        String value = userId.toString();
+
+        // SET NX (solo si no existe) + TTL
+        Boolean success = redisTemplate.opsForValue()
+                .setIfAbsent(key, value, LOCK_TTL);
+
+        if (Boolean.TRUE.equals(success)) {
+            log.info("Asiento bloqueado: {} para usuario: {}", key, userId);
+            return true;
+        }
+
+        log.warn("Asiento ya bloqueado: {}", key);
+        return false;
+    }
+
+    /**
+     * Bloquea varios asientos de un evento en una sola operación atómica.
+     *
+     * <p>
+     * Si algún asiento está bloqueado por otro usuario no se bloquea ninguno,
+     * por lo que nunca quedan reservas parciales.
+     * </p>
+     *
+     * @param eventId ID del evento
+     * @param seatIds IDs de los asientos (sin duplicados)
+     * @param userId  ID del usuario que bloquea
+     * @return asientos bloqueados por otros usuarios; vacía si el bloqueo fue
+     *         exitoso
+     */
+    @Override
+    public List<UUID> lockSeats(UUID eventId, List<UUID> seatIds, UUID userId) {
+        List<?> result = redisTemplate.execute(
+                LOCK_ALL_SCRIPT,
+                buildKeys(eventId, seatIds),
+                userId.toString(),
+                String.valueOf(LOCK_TTL.toMillis()));
+
+        List<UUID> conflicts = selectByIndex(seatIds, result);
+
+        if (conflicts.isEmpty()) {
+            log.info("{} asientos bloqueados en evento {} para usuario: {}", seatIds.size(), eventId, userId);
+        } else {
+            log.warn("Bloqueo múltiple rechazado en evento {}: {} asientos ya bloqueados",
+                    eventId, conflicts.size());
+        }
+        return conflicts;
+    }
+
+    /**
+     * Libera el bloqueo de un asiento.
+     *
+     * <p>
+     * La verificación del dueño y el borrado son atómicos, por lo que nunca
+     * se borra un bloqueo adquirido por otro usuario entre ambos pasos.
+     * </p>
+     *
+     * @param eventId ID del evento
+     * @param seatId  ID del asiento
+     * @param userId  ID del usuario que libera (debe ser quien bloqueó)
+     * @return true si se borró el bloqueo del usuario; false si no había
+     *         bloqueo o era de otro usuario
+     */
+    @Override
+    public boolean unlockSeat(UUID eventId, UUID seatId, UUID userId) {
+        String key = buildKey(eventId, seatId);
+        Long result = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), userId.toString());
+
+        if (result != null && result == RELEASED) {
+            log.info("Bloqueo liberado: {}", key);
+            return true;
+        }
+
+        if (result != null && result == NOT_LOCKED) {
+            log.debug("Asiento sin bloqueo al liberar: {}", key);
+        } else {
+            log.warn("Usuario {} no es dueño del bloqueo {}", userId, key);
+        }
+        return false;
+    }
+
+    /**
+     * Libera los bloqueos de varios asientos en un solo round trip.
+     * Los asientos bloqueados por otros usuarios se ignoran.
+     *
+     * @return cantidad de bloqueos liberados
+     */
+    @Override
+    public int unlockSeats(UUID eventId, List<UUID> seatIds, UUID userId) {
+        Long released = redisTemplate.execute(
+                RELEASE_ALL_SCRIPT,
+                buildKeys(eventId, seatIds),
+                userId.toString());
+
+        int count = released != null ? released.intValue() : 0;
+        log.info("{} de {} bloqueos liberados en evento {} para usuario {}",
+                count, seatIds.size(), eventId, userId);
+        return count;
+    }
+
+    /**
+     * Verifica si un asiento está bloqueado.
+     *
+     * @return ID del usuario que lo bloqueó, o null si está libre
+     */
+    @Override
+    public UUID getLockedBy(UUID eventId, UUID seatId) {
+        String key = buildKey(eventId, seatId);
+        String value = redisTemplate.opsForValue().get(key);
+
+        return value != null ? UUID.fromString(value) : null;
+    }
+
+    /**
+     * Devuelve los asientos indicados que tienen un bloqueo vigente, de
+     * cualquier usuario.
+     */
+    @Override
+    public Set<UUID> findLockedSeatIds(UUID eventId, Collection<UUID> seatIds) {
+        List<UUID> ids = List.copyOf(seatIds);
+        Set<UUID> locked = new HashSet<>();
+        if (ids.isEmpty()) {
+            return locked;
+        }
+
+        // MGET: un solo round trip para todo el conjunto
+        List<String> owners = redisTemplate.opsForValue().multiGet(buildKeys(eventId, ids));
+        if (owners != null) {
+            for (int i = 0; i < ids.size(); i++) {
+                if (owners.get(i) != null) {
+                    locked.add(ids.get(i));
+                }
+            }
+        }
+        return locked;
+    }
+
+    /**
+     * Extiende el TTL del bloqueo (para mantenerlo durante checkout).
+     */
+    @Override
+    public boolean extendLock(UUID eventId, UUID seatId, UUID userId) {
+        String key = buildKey(eventId, seatId);
+        Long result = redisTemplate.execute(
+                EXTEND_SCRIPT,
+                List.of(key),
+                userId.toString(),
+                String.valueOf(LOCK_TTL.toMillis()));
+
+        if (result != null && result == 1L) {
+            log.debug("TTL extendido para: {}", key);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Extiende el TTL de varios bloqueos del mismo usuario, todo o nada.
+     *
+     * <p>
+     * Sirve además como verificación de propiedad en checkout: si algún
+     * asiento no está bloqueado por el usuario no se renueva ninguno.
+     * </p>
+     *
+     * @return asientos que no están bloqueados por el usuario; vacía si se
+     *         extendieron todos
+     */
+    @Override
+    public List<UUID> extendLocks(UUID eventId, List<UUID> seatIds, UUID userId) {
+        List<?> result = redisTemplate.execute(
+                EXTEND_ALL_SCRIPT,
+                buildKeys(eventId, seatIds),
+                userId.toString(),
+                String.valueOf(LOCK_TTL.toMillis()));
+
+        List<UUID> missing = selectByIndex(seatIds, result);
+
+        if (missing.isEmpty()) {
+            log.debug("TTL extendido para {} asientos del evento {}", seatIds.size(), eventId);
+        }
+        return missing;
+    }
+
+    private String buildKey(UUID eventId, UUID seatId) {
+        return SEAT_LOCK_PREFIX + eventId + ":" + seatId;
+    }
+
+    private List<String> buildKeys(UUID eventId, List<UUID> seatIds) {
+        return seatIds.stream()
+                .map(seatId -> buildKey(eventId, seatId))
+                .toList();
+    }
+
+    /**
+     * Traduce los índices 1-based devueltos por un script Lua a IDs de asiento.
+     */
+    private List<UUID> selectByIndex(List<UUID> seatIds, List<?> indexes) {
+        List<UUID> selected = new ArrayList<>();
+        if (indexes != null) {
+            for (Object index : indexes) {
+                selected.add(seatIds.get(((Number) index).intValue() - 1));
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,98 @@
+package com.neonpass.infrastructure.adapter.out.redis;
+
+import com.neonpass.domain.port.out.SectionInventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa el puerto de salida SectionInventory usando Redis.
+ *
+ * <ul>
+ * <li>Key: inventory:section:{eventId}:{sectionId}</li>
+ * <li>Value: entradas vendidas o en compra</li>
+ * <li>TTL: 7 días desde la última compra</li>
+ * </ul>
+ *
+ * <p>
+ * Comparar y sumar se hace en un script Lua. Al expirar, el contador se
+ * vuelve a inicializar desde la base de datos.
+ * </p>
+ *
+ * <p>
+ * Activo por defecto ({@code inventory.provider=redis}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.provider", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisSectionInventoryAdapter implements SectionInventory {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String INVENTORY_PREFIX = "inventory:section:";
+    private static final Duration COUNTER_TTL = Duration.ofDays(7);
+
+    /**
+     * Compare-and-increment. Devuelve el nuevo total, -1 si no hay capacidad
+     * y -2 si la key no existe.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local taken = redis.call('GET', KEYS[1])
+            if not taken then
+                return -2
+            end
+            local total = tonumber(taken) + tonumber(ARGV[1])
+            if total > tonumber(ARGV[2]) then
+                return -1
+            end
+            redis.call('SET', KEYS[1], total, 'PX', ARGV[3])
+            return total
+            """, Long.class);
+
+    /**
+     * Resta solo si la key existe, para no crear contadores negativos tras
+     * una expiración.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('DECRBY', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    @Override
+    public AcquireResult tryAcquire(UUID eventId, UUID sectionId, int quantity, int capacity) {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(buildKey(eventId, sectionId)),
+                String.valueOf(quantity),
+                String.valueOf(capacity),
+                String.valueOf(COUNTER_TTL.toMillis()));
+
+        if (result == null || result == -2) {
+            return AcquireResult.NOT_INITIALIZED;
+        }
+        return result == -1 ? AcquireResult.SOLD_OUT : AcquireResult.ACQUIRED;
+    }
+
+    @Override
+    public void initialize(UUID eventId, UUID sectionId, long sold) {
+        redisTemplate.opsForValue().setIfAbsent(buildKey(eventId, sectionId), String.valueOf(sold), COUNTER_TTL);
+    }
+
+    @Override
+    public void release(UUID eventId, UUID sectionId, int quantity) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(buildKey(eventId, sectionId)), String.valueOf(quantity));
+    }
+
+    private String buildKey(UUID eventId, UUID sectionId) {
+        return INVENTORY_PREFIX + eventId + ":" + sectionId;
+    }
+}
@@ -0,0 +1,149 @@
+package com.neonpass.infrastructure.adapter.out.redis;
+
+import com.neonpass.domain.port.out.WaitingRoomStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa el puerto de salida WaitingRoomStore usando Redis.
+ *
+ * <ul>
+ * <li>Key: waiting-room:{eventId}:room (hash con rate, issued, frontier y
+ * updated_at)</li>
+ * <li>Key: waiting-room:{eventId}:admitted (hash número → hora de
+ * admisión)</li>
+ * </ul>
+ *
+ * <p>
+ * Ambas keys comparten hash tag. La frontera avanza dentro de cada script con
+ * la hora de Redis ({@code TIME}), así que todos los nodos ven la misma fila
+ * aunque sus relojes difieran.
+ * </p>
+ *
+ * <p>
+ * Activo por defecto ({@code waiting-room.provider=redis}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "waiting-room.provider", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisWaitingRoomAdapter implements WaitingRoomStore {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "waiting-room:";
+
+    /**
+     * Avanza la frontera {@code rate} números por segundo sin superar los
+     * emitidos. Devuelve frontera, ritmo y hora actual en ms.
+     */
+    private static final String ADVANCE = """
+            local function advance(key)
+                local time = redis.call('TIME')
+                local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                local room = redis.call('HMGET', key, 'rate', 'issued', 'frontier', 'updated_at')
+                local rate = tonumber(room[1])
+                local frontier = math.min(tonumber(room[2]),
+                        tonumber(room[3]) + rate * (now - tonumber(room[4])) / 1000)
+                redis.call('HSET', key, 'frontier', tostring(frontier), 'updated_at', now)
+                return frontier, rate, now
+            end
+            """;
+
+    /**
+     * Crea la sala o cambia su ritmo, avanzando antes la frontera con el
+     * ritmo anterior.
+     */
+    private static final RedisScript<Long> OPEN_SCRIPT = new DefaultRedisScript<>(ADVANCE + """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                advance(KEYS[1])
+                redis.call('HSET', KEYS[1], 'rate', ARGV[1])
+                return 0
+            end
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('HSET', KEYS[1], 'rate', ARGV[1], 'issued', 0, 'frontier', 0, 'updated_at', now)
+            return 1
+            """, Long.class);
+
+    /**
+     * Emite el siguiente número. Devuelve -1 si la sala no existe.
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return redis.call('HINCRBY', KEYS[1], 'issued', 1)
+            """, Long.class);
+
+    /**
+     * Devuelve {ahead, rate, admittedAt}, o nil si la sala no existe. La
+     * hora de admisión se fija con HSETNX la primera vez.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TURN_SCRIPT = new DefaultRedisScript<>(ADVANCE + """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local frontier, rate, now = advance(KEYS[1])
+            local ahead = tonumber(ARGV[1]) - math.floor(frontier)
+            if ahead > 0 then
+                return {ahead, rate, 0}
+            end
+            redis.call('HSETNX', KEYS[2], ARGV[1], now)
+            return {0, rate, tonumber(redis.call('HGET', KEYS[2], ARGV[1]))}
+            """, List.class);
+
+    @Override
+    public void open(UUID eventId, int admissionsPerSecond) {
+        redisTemplate.execute(OPEN_SCRIPT, List.of(roomKey(eventId)), String.valueOf(admissionsPerSecond));
+    }
+
+    @Override
+    public void close(UUID eventId) {
+        redisTemplate.delete(List.of(roomKey(eventId), admittedKey(eventId)));
+    }
+
+    @Override
+    public boolean isOpen(UUID eventId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(roomKey(eventId)));
+    }
+
+    @Override
+    public OptionalLong issue(UUID eventId) {
+        Long number = redisTemplate.execute(ISSUE_SCRIPT, List.of(roomKey(eventId)));
+        return number == null || number < 0 ? OptionalLong.empty() : OptionalLong.of(number);
+    }
+
+    @Override
+    public Optional<Turn> turn(UUID eventId, long number) {
+        List<?> result = redisTemplate.execute(TURN_SCRIPT,
+                List.of(roomKey(eventId), admittedKey(eventId)),
+                String.valueOf(number));
+
+        if (result == null || result.size() < 3) {
+            return Optional.empty();
+        }
+        return Optional.of(new Turn(
+                ((Number) result.get(0)).longValue(),
+                ((Number) result.get(1)).intValue(),
+                ((Number) result.get(2)).longValue()));
+    }
+
+    private String roomKey(UUID eventId) {
+        return KEY_PREFIX + "{" + eventId + "}:room";
+    }
+
+    private String admittedKey(UUID eventId) {
+        return KEY_PREFIX + "{" + eventId + "}:admitted";
+    }
+}
@@ -5,6 +5,7 @@ import com.neonpass.infrastructure.common.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -48,6 +49,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("ORDER_NOT_FOUND", ex.getMessage()));
     }
 
+    @ExceptionHandler(VenueNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleVenueNotFound(VenueNotFoundException ex) {
+        log.warn("Venue no encontrado: {}", ex.getVenueId());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("VENUE_NOT_FOUND", ex.getMessage()));
+    }
+
     // ==================== 401 Unauthorized ====================
 
     @ExceptionHandler(InvalidCredentialsException.class)
@@ -57,6 +65,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("INVALID_CREDENTIALS", ex.getMessage()));
     }
 
+    // ==================== 403 Forbidden ====================
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccessDenied(AccessDeniedException ex) {
+        log.warn("Acceso denegado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("ACCESS_DENIED", "No tienes permiso para esta operación"));
+    }
+
     // ==================== 409 Conflict ====================
 
     @ExceptionHandler(EmailAlreadyExistsException.class)
@@ -73,6 +90,38 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("SEAT_NOT_AVAILABLE", ex.getMessage()));
     }
 
+    @ExceptionHandler(SeatsNotAvailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSeatsNotAvailable(SeatsNotAvailableException ex) {
+        log.warn("Asientos no disponibles: {} para evento {}", ex.getSeatIds(), ex.getEventId());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("SEATS_NOT_AVAILABLE", ex.getMessage(),
+                        Map.of("seatIds", ex.getSeatIds())));
+    }
+
+    @ExceptionHandler(NoAdjacentSeatsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleNoAdjacentSeats(NoAdjacentSeatsException ex) {
+        log.warn("Sin asientos contiguos: {} en sección {}", ex.getQuantity(), ex.getSectionId());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("NO_ADJACENT_SEATS", ex.getMessage(),
+                        Map.of("sectionId", ex.getSectionId(), "quantity", ex.getQuantity())));
+    }
+
+    @ExceptionHandler(SectionSoldOutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSectionSoldOut(SectionSoldOutException ex) {
+        log.warn("Sección agotada: {} para evento {}", ex.getSectionId(), ex.getEventId());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("SECTION_SOLD_OUT", ex.getMessage(),
+                        Map.of("sectionId", ex.getSectionId(), "quantity", ex.getQuantity())));
+    }
+
+    @ExceptionHandler(AdmissionRequiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAdmissionRequired(AdmissionRequiredException ex) {
+        log.debug("Sin admisión para evento {}", ex.getEventId());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("ADMISSION_REQUIRED", ex.getMessage(),
+                        Map.of("eventId", ex.getEventId())));
+    }
+
     @ExceptionHandler(SeatAlreadySoldException.class)
     public ResponseEntity<ApiResponse<Void>> handleSeatAlreadySold(SeatAlreadySoldException ex) {
         log.warn("Asiento ya vendido: {}", ex.getSeatId());
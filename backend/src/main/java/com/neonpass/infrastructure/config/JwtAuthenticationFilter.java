@@ -43,10 +43,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtService.validateToken(jwt)) {
-                UUID userId = jwtService.extractUserId(jwt);
-                String email = jwtService.extractEmail(jwt);
-                String role = jwtService.extractRole(jwt);
+            JwtPrincipal principal = StringUtils.hasText(jwt) ? jwtService.parse(jwt).orElse(null) : null;
+
+            if (principal != null) {
+                UUID userId = principal.userId();
+                String email = principal.email();
+                String role = principal.role();
 
                 // Crear authorities basado en el rol
                 List<SimpleGrantedAuthority> authorities = List.of(
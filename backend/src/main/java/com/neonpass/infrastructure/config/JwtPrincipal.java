@@ -0,0 +1,10 @@
+package com.neonpass.infrastructure.config;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims de un token JWT ya verificado.
+ */
+public record JwtPrincipal(UUID userId, String email, String role, Instant expiresAt) {
+}
@@ -1,18 +1,21 @@
 package com.neonpass.infrastructure.config;
 
+import com.neonpass.application.service.BoundedMaps;
 import com.neonpass.domain.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Servicio para generación y validación de tokens JWT.
@@ -27,8 +30,28 @@ public class JwtService {
     @Value("${security.jwt.expiration-ms}")
     private long jwtExpirationMs;
 
+    @Value("${security.jwt.cache.max-entries:10000}")
+    private int maxCachedTokens;
+
     private static final long REFRESH_TOKEN_EXPIRATION_MS = 604800000L; // 7 días
 
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /** Tokens verificados por SHA-256 del token */
+    private final ConcurrentHashMap<String, JwtPrincipal> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Decodifica la clave y construye el parser una sola vez.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     /**
      * Genera un token de acceso para el usuario.
      */
@@ -59,54 +82,61 @@ public class JwtService {
                 .subject(user.getId().toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * Valida un token JWT.
+     * Verifica el token y extrae sus claims con un solo parseo.
+     *
+     * <p>
+     * Los tokens ya verificados se guardan, por el SHA-256 del token, hasta
+     * su expiración; una petición con un token conocido no vuelve a
+     * verificar la firma.
+     * </p>
+     *
+     * @return claims del token, o vacío si es inválido o expiró
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtPrincipal> parse(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        JwtPrincipal cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt().toEpochMilli() > now) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(digest);
+            log.error("Token JWT expirado");
+            return Optional.empty();
+        }
+
+        JwtPrincipal principal;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            principal = new JwtPrincipal(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant());
         } catch (MalformedJwtException ex) {
             log.error("Token JWT inválido");
+            return Optional.empty();
         } catch (ExpiredJwtException ex) {
             log.error("Token JWT expirado");
+            return Optional.empty();
         } catch (UnsupportedJwtException ex) {
             log.error("Token JWT no soportado");
-        } catch (IllegalArgumentException ex) {
-            log.error("Claims JWT vacíos");
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.error("Token JWT rechazado: {}", ex.getMessage());
+            return Optional.empty();
         }
-        return false;
-    }
 
-    /**
-     * Extrae el ID del usuario del token.
-     */
-    public UUID extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        return UUID.fromString(claims.getSubject());
-    }
-
-    /**
-     * Extrae el email del usuario del token.
-     */
-    public String extractEmail(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("email", String.class);
-    }
-
-    /**
-     * Extrae el rol del usuario del token.
-     */
-    public String extractRole(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+        BoundedMaps.makeRoom(verifiedTokens, maxCachedTokens,
+                verified -> verified.expiresAt().toEpochMilli() <= now);
+        verifiedTokens.put(digest, principal);
+        return Optional.of(principal);
     }
 
     /**
@@ -116,16 +146,12 @@ public class JwtService {
         return jwtExpirationMs;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
 }
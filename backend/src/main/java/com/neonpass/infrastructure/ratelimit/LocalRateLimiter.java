@@ -0,0 +1,104 @@
+package com.neonpass.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Token buckets en memoria con Bucket4j.
+ *
+ * <p>
+ * Guarda como máximo {@code rate-limit.local.max-keys} buckets. Al superarlo
+ * se descartan primero los que llevan más de un periodo sin uso (ya estarían
+ * llenos, así que descartarlos no cambia el límite) y, si no alcanza, los
+ * de uso menos reciente.
+ * </p>
+ *
+ * <p>
+ * Activo por defecto ({@code rate-limit.provider=local}).
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.provider", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private record BucketKey(String policy, String key) {
+    }
+
+    private static final class Entry {
+        private final Bucket bucket;
+        private final long periodNanos;
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private Entry(Bucket bucket, long periodNanos) {
+            this.bucket = bucket;
+            this.periodNanos = periodNanos;
+        }
+    }
+
+    @Value("${rate-limit.local.max-keys:100000}")
+    private int maxKeys;
+
+    private final ConcurrentHashMap<BucketKey, Entry> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    @Override
+    public Probe tryConsume(RateLimitPolicy policy, String key) {
+        Entry entry = buckets.computeIfAbsent(new BucketKey(policy.name(), key), k -> newEntry(policy));
+        entry.lastUsedNanos = System.nanoTime();
+
+        if (buckets.size() > maxKeys) {
+            evict();
+        }
+
+        ConsumptionProbe probe = entry.bucket.tryConsumeAndReturnRemaining(1);
+        return new Probe(probe.isConsumed(), probe.getRemainingTokens(),
+                TimeUnit.NANOSECONDS.toMillis(probe.getNanosToWaitForRefill()));
+    }
+
+    private Entry newEntry(RateLimitPolicy policy) {
+        Bucket bucket = Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(policy.capacity())
+                        .refillGreedy(policy.capacity(), policy.period())
+                        .build())
+                .build();
+        return new Entry(bucket, policy.period().toNanos());
+    }
+
+    private void evict() {
+        // Una sola limpieza a la vez; el resto de las peticiones no espera
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = System.nanoTime();
+            buckets.values().removeIf(entry -> now - entry.lastUsedNanos > entry.periodNanos);
+
+            int excess = buckets.size() - maxKeys * 9 / 10;
+            if (excess > 0) {
+                buckets.entrySet().stream()
+                        .sorted(Comparator.comparingLong(e -> e.getValue().lastUsedNanos))
+                        .limit(excess)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(buckets::remove);
+            }
+            log.debug("Rate limit: {} buckets tras limpieza", buckets.size());
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.neonpass.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neonpass.infrastructure.common.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Filtro de rate limiting.
+ *
+ * <p>
+ * Se ejecuta después de {@code JwtAuthenticationFilter}: las peticiones
+ * autenticadas se limitan por usuario y las anónimas por IP. Políticas
+ * (propiedades {@code rate-limit.*}):
+ * </p>
+ * <ul>
+ * <li>login: POST /api/v1/auth/login y /register, por IP</li>
+ * <li>seat-reservation: POST /api/v1/reservations/**, por petición (el tope
+ * de asientos por reserva es {@code max-seats}, aparte)</li>
+ * <li>public-api: GET de eventos, organizaciones y venues</li>
+ * </ul>
+ *
+ * <p>
+ * Al superar el límite responde 429 con {@code Retry-After} sin llegar al
+ * controlador.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Rule(RequestMatcher matcher, RateLimitPolicy policy, boolean byUser) {
+    }
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<Rule> rules;
+
+    public RateLimitFilter(
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.login.max-attempts}") long loginMaxAttempts,
+            @Value("${rate-limit.login.duration-minutes}") long loginMinutes,
+            @Value("${rate-limit.seat-reservation.max-requests}") long reservationMax,
+            @Value("${rate-limit.seat-reservation.duration-minutes}") long reservationMinutes,
+            @Value("${rate-limit.public-api.max-requests}") long publicMaxRequests,
+            @Value("${rate-limit.public-api.duration-minutes}") long publicMinutes) {
+
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.rules = List.of(
+                new Rule(new OrRequestMatcher(
+                        AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/api/v1/auth/login"),
+                        AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/api/v1/auth/register")),
+                        new RateLimitPolicy("login", loginMaxAttempts, Duration.ofMinutes(loginMinutes)),
+                        false),
+                new Rule(AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/api/v1/reservations/**"),
+                        new RateLimitPolicy("seat-reservation", reservationMax, Duration.ofMinutes(reservationMinutes)),
+                        true),
+                new Rule(new OrRequestMatcher(
+                        AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/events/**"),
+                        AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/organizations/**"),
+                        AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/venues/**")),
+                        new RateLimitPolicy("public-api", publicMaxRequests, Duration.ofMinutes(publicMinutes)),
+                        true));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Rule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Probe probe = rateLimiter.tryConsume(rule.policy(), keyFor(request, rule));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.remaining()));
+
+        if (probe.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (probe.retryAfterMillis() + 999) / 1000);
+        log.debug("Rate limit {} superado por {}", rule.policy().name(), keyFor(request, rule));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(
+                "RATE_LIMITED",
+                "Demasiadas peticiones, intenta de nuevo en " + retryAfterSeconds + " segundos",
+                Map.of("retryAfterSeconds", retryAfterSeconds)));
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        for (Rule rule : rules) {
+            if (rule.matcher().matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String keyFor(HttpServletRequest request, Rule rule) {
+        if (rule.byUser()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UUID userId) {
+                return "user:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,12 @@
+package com.neonpass.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Límite de peticiones: {@code capacity} peticiones por {@code period},
+ * repuestas de forma continua.
+ *
+ * @param name nombre de la política, parte de la key del bucket
+ */
+public record RateLimitPolicy(String name, long capacity, Duration period) {
+}
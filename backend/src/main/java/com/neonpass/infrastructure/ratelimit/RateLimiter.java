@@ -0,0 +1,20 @@
+package com.neonpass.infrastructure.ratelimit;
+
+/**
+ * Almacén de token buckets por política y key (usuario o IP).
+ */
+public interface RateLimiter {
+
+    /**
+     * Resultado de consumir un token.
+     *
+     * @param retryAfterMillis espera hasta el próximo token si fue rechazado
+     */
+    record Probe(boolean allowed, long remaining, long retryAfterMillis) {
+    }
+
+    /**
+     * Consume un token del bucket de la key para la política.
+     */
+    Probe tryConsume(RateLimitPolicy policy, String key);
+}
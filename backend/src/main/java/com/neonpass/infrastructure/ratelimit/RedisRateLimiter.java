@@ -0,0 +1,89 @@
+package com.neonpass.infrastructure.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Token buckets compartidos entre nodos en Redis.
+ *
+ * <ul>
+ * <li>Key: rate:{política}:{usuario o IP}</li>
+ * <li>Value: hash con tokens y última reposición</li>
+ * <li>TTL: un periodo de la política</li>
+ * </ul>
+ *
+ * <p>
+ * Reponer y consumir se hace en un script Lua con el reloj de Redis. Si
+ * Redis no responde la petición se deja pasar.
+ * </p>
+ *
+ * <p>
+ * Activo con {@code rate-limit.provider=redis}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.provider", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String RATE_PREFIX = "rate:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Token bucket con reposición continua. Devuelve {permitido, restantes,
+     * espera en ms}.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + (now - ts) * capacity / period)
+            local allowed = 0
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                wait = math.ceil((1 - tokens) * period / capacity)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], period)
+            return {allowed, math.floor(tokens), wait}
+            """, List.class);
+
+    @Override
+    public Probe tryConsume(RateLimitPolicy policy, String key) {
+        try {
+            List<?> result = redisTemplate.execute(CONSUME_SCRIPT,
+                    List.of(RATE_PREFIX + policy.name() + ":" + key),
+                    String.valueOf(policy.capacity()),
+                    String.valueOf(policy.period().toMillis()));
+
+            if (result == null || result.size() < 3) {
+                return new Probe(true, policy.capacity(), 0);
+            }
+            return new Probe(
+                    ((Number) result.get(0)).longValue() == 1,
+                    ((Number) result.get(1)).longValue(),
+                    ((Number) result.get(2)).longValue());
+        } catch (DataAccessException e) {
+            log.warn("Rate limit en Redis no disponible, se permite la petición: {}", e.getMessage());
+            return new Probe(true, policy.capacity(), 0);
+        }
+    }
+}
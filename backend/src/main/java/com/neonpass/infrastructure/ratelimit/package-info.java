@@ -0,0 +1,10 @@
+/**
+ * Capa de Infraestructura - Rate Limiting.
+ * 
+ * <p>
+ * Este paquete contiene el filtro que limita las peticiones por usuario o IP
+ * antes de llegar a los controladores, y los almacenes de token buckets
+ * (local con Bucket4j o distribuido en Redis).
+ * </p>
+ */
+package com.neonpass.infrastructure.ratelimit;